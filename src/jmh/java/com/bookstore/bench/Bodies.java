@@ -0,0 +1,38 @@
+package com.bookstore.bench;
+
+import com.bookstore.model.Author;
+import com.bookstore.model.Book;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed payloads for the benchmarks, so runs on different commits decode the same bytes.
+ */
+final class Bodies {
+
+    private Bodies() { }
+
+    static List<Book> books(int count) {
+        List<Book> books = new ArrayList<>(count);
+        for (int id = 1; id <= count; id++) {
+            books.add(new Book(id, "Book " + id, "Description " + id, 100 + id % 900, "Excerpt " + id, "2023-09-01T00:00:00Z"));
+        }
+        return books;
+    }
+
+    static Author author(int id) {
+        return new Author(id, "Author " + id, "Bio " + id, "1990-01-01");
+    }
+
+    /** @return In-memory 200 response with a JSON body */
+    static Response response(byte[] body) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json; charset=utf-8")
+                .setBody(body)
+                .build();
+    }
+}
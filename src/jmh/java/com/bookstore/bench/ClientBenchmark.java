@@ -0,0 +1,123 @@
+package com.bookstore.bench;
+
+import com.bookstore.api.AllureReportFilter;
+import com.bookstore.api.BooksClient;
+import com.bookstore.api.HttpTransport;
+import com.bookstore.api.RequestSpecCache;
+import com.bookstore.api.Resource;
+import com.bookstore.model.Book;
+import com.bookstore.stub.StubServer;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.FileSystemResultsWriter;
+import io.qameta.allure.model.TestResult;
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Paths;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Cost of the client layer itself: building a {@link BooksClient} request, and a GET round trip
+ * against the local {@link StubServer} with no filters, with only the {@link AllureReportFilter},
+ * and through the client with the full filter chain.
+ * <p>
+ * A test case is kept open in Allure, so the report filter captures exchanges as it would during
+ * a test (report.http.mode from config.properties). HTTP logging is off so it does not flood the console.
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=ClientBenchmark
+ * </p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Dlog.level=OFF", "-Dcache.enabled=false", "-Dcassette.mode=OFF"})
+public class ClientBenchmark {
+
+    private StubServer stub;
+    private String testUuid;
+    private Book book;
+    private RequestSpecification bare;
+    private RequestSpecification reportOnly;
+
+    @Setup
+    public void setUp() {
+        stub = StubServer.start(0, 4, 100, 10);
+        RestAssured.baseURI = stub.baseUrl();
+        RequestSpecCache.clear();
+
+        Allure.setLifecycle(new AllureLifecycle(new FileSystemResultsWriter(Paths.get("target", "jmh-allure-results"))));
+        testUuid = UUID.randomUUID().toString();
+        Allure.getLifecycle().scheduleTestCase(new TestResult().setUuid(testUuid).setName("ClientBenchmark"));
+        Allure.getLifecycle().startTestCase(testUuid);
+
+        book = Bodies.books(1).get(0);
+        bare = specBuilder().build();
+        reportOnly = specBuilder().addFilter(new AllureReportFilter()).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Allure.getLifecycle().stopTestCase(testUuid);
+        stub.close();
+    }
+
+    // -- Request building (no I/O) --
+
+    @Benchmark
+    public RequestSpecification buildRequest_cachedSpec() {
+        return given(RequestSpecCache.get(Resource.BOOKS)).body(book);
+    }
+
+    @Benchmark
+    public RequestSpecification buildRequest_freshSpec() {
+        return given(specBuilder().build()).body(book);
+    }
+
+    // -- GET /Books/1 round trip (bodies are read, which also returns the connection to the pool) --
+
+    @Benchmark
+    public byte[] getBook_noFilters() {
+        return given(bare).get("/1").asByteArray();
+    }
+
+    @Benchmark
+    public byte[] getBook_allureFilter() {
+        return given(reportOnly).get("/1").asByteArray();
+    }
+
+    @Benchmark
+    public byte[] getBook_client() {
+        return BooksClient.getBookById(1).asByteArray();
+    }
+
+    @Benchmark
+    public Book getBookAs_client() {
+        return BooksClient.getBookByIdAs(1);
+    }
+
+    private RequestSpecBuilder specBuilder() {
+        return new RequestSpecBuilder()
+                .setConfig(HttpTransport.config())
+                .setBaseUri(stub.baseUrl())
+                .setBasePath(Resource.BOOKS.basePath())
+                .setContentType(ContentType.JSON);
+    }
+}
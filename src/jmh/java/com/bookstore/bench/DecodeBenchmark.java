@@ -0,0 +1,98 @@
+package com.bookstore.bench;
+
+import com.bookstore.model.Book;
+import com.bookstore.model.Json;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.response.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading books from a response body: {@code jsonPath()} against one-pass Jackson decoding,
+ * with reflective and Blackbird-generated property access.
+ * <p>
+ * Bodies are built in memory, so only decoding is measured.
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=DecodeBenchmark
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DecodeBenchmark {
+
+    /** A single book, as returned by GET /Books/{id}. */
+    @State(Scope.Benchmark)
+    public static class Single {
+        Response response;
+        ObjectMapper reflective;
+
+        @Setup
+        public void setUp() {
+            response = Bodies.response(Json.write(Bodies.books(1).get(0)));
+            reflective = Json.createMapper(false);
+        }
+    }
+
+    /** A list of books, as returned by GET /Books. */
+    @State(Scope.Benchmark)
+    public static class ListBody {
+        @Param({"10", "1000", "100000"})
+        public int size;
+
+        Response response;
+        ObjectMapper reflective;
+
+        @Setup
+        public void setUp() {
+            response = Bodies.response(Json.write(Bodies.books(size)));
+            reflective = Json.createMapper(false);
+        }
+    }
+
+    @Benchmark
+    public String single_jsonPath(Single body) {
+        return body.response.jsonPath().getString("title");
+    }
+
+    @Benchmark
+    public String single_jackson(Single body) {
+        Book book = Json.read(body.response.asByteArray(), Json.BOOK);
+        return book.getTitle();
+    }
+
+    @Benchmark
+    public String single_jacksonReflective(Single body) throws IOException {
+        Book book = body.reflective.readValue(body.response.asByteArray(), Json.BOOK);
+        return book.getTitle();
+    }
+
+    @Benchmark
+    public List<String> list_jsonPath(ListBody body) {
+        return body.response.jsonPath().getList("title", String.class);
+    }
+
+    @Benchmark
+    public List<Book> list_jackson(ListBody body) {
+        return Json.read(body.response.asByteArray(), Json.BOOK_LIST);
+    }
+
+    @Benchmark
+    public List<Book> list_jacksonReflective(ListBody body) throws IOException {
+        return body.reflective.readValue(body.response.asByteArray(), Json.BOOK_LIST);
+    }
+}
@@ -0,0 +1,66 @@
+package com.bookstore.bench;
+
+import com.bookstore.model.Author;
+import com.bookstore.model.Book;
+import com.bookstore.model.Json;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing {@link Book} and {@link Author} request bodies with the shared mapper,
+ * against the same settings without Blackbird.
+ * <p>
+ * Run with: mvn -Pjmh test-compile exec:exec -Djmh.args=SerializationBenchmark
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    private Book book;
+    private Author author;
+    private ObjectMapper reflective;
+
+    @Setup
+    public void setUp() {
+        book = Bodies.books(1).get(0);
+        author = Bodies.author(1);
+        reflective = Json.createMapper(false);
+    }
+
+    @Benchmark
+    public byte[] book_jackson() {
+        return Json.write(book);
+    }
+
+    @Benchmark
+    public byte[] book_jacksonReflective() throws IOException {
+        return reflective.writeValueAsBytes(book);
+    }
+
+    @Benchmark
+    public byte[] author_jackson() {
+        return Json.write(author);
+    }
+
+    @Benchmark
+    public byte[] author_jacksonReflective() throws IOException {
+        return reflective.writeValueAsBytes(author);
+    }
+}
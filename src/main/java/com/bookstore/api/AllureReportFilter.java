@@ -0,0 +1,71 @@
+package com.bookstore.api;
+
+import com.bookstore.reporting.HttpReport;
+import com.bookstore.reporting.ReportMode;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Single shared Allure reporting filter for all client calls; replaces {@code AllureRestAssured}.
+ * <p>
+ * Captures the request and response and hands them to {@link HttpReport}, which decides by
+ * {@code report.http.mode} whether to attach them and renders them off the request thread.
+ * In OFF mode, and for exchanges that will not be kept, the filter only passes the call through;
+ * response bodies are handed over as raw bytes and decoded only if the exchange is attached.
+ * </p>
+ */
+public class AllureReportFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (HttpReport.mode() == ReportMode.OFF) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) { // RestAssured rethrows checked I/O exceptions unwrapped
+            if (HttpReport.shouldCapture(0)) {
+                HttpReport.record(new HttpReport.Exchange(requestSpec.getMethod(), requestSpec.getURI(),
+                        map(requestSpec.getHeaders()), body(requestSpec.getBody()), 0, e.toString(), Map.of(), null));
+            }
+            throw e;
+        }
+        if (HttpReport.shouldCapture(response.statusCode())) {
+            HttpReport.record(new HttpReport.Exchange(requestSpec.getMethod(), requestSpec.getURI(),
+                    map(requestSpec.getHeaders()), body(requestSpec.getBody()), response.statusCode(),
+                    response.getStatusLine(), map(response.getHeaders()), response.asByteArray()));
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 6;
+    }
+
+    private static Map<String, String> map(Headers headers) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (Header header : headers) {
+            map.put(header.getName(), "Authorization".equalsIgnoreCase(header.getName()) ? "***" : header.getValue());
+        }
+        return map;
+    }
+
+    private static String body(Object body) {
+        if (body == null) {
+            return null;
+        }
+        return HttpReport.truncate(body instanceof byte[] ? new String((byte[]) body, StandardCharsets.UTF_8) : body.toString());
+    }
+}
@@ -0,0 +1,25 @@
+package com.bookstore.api;
+
+/**
+ * Thrown (or used to complete a future exceptionally) when the API answers with a non-2xx status
+ * where a typed result was expected.
+ */
+public class ApiResponseException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int statusCode;
+    private final String body;
+
+    public ApiResponseException(String method, String uri, int statusCode, String body) {
+        super(method + " " + uri + " returned HTTP " + statusCode);
+        this.statusCode = statusCode;
+        this.body = body;
+    }
+
+    /** @return HTTP status code returned by the API */
+    public int getStatusCode() { return statusCode; }
+
+    /** @return Raw response body (may be empty) */
+    public String getBody() { return body; }
+}
@@ -0,0 +1,440 @@
+package com.bookstore.api;
+
+import com.bookstore.cassette.Cassette;
+import com.bookstore.cassette.CassetteKey;
+import com.bookstore.cassette.CassetteMissException;
+import com.bookstore.cassette.CassetteMode;
+import com.bookstore.cassette.Interaction;
+import com.bookstore.limit.EndpointLimiter;
+import com.bookstore.limit.Limits;
+import com.bookstore.metrics.LatencyMetrics;
+import com.bookstore.model.Json;
+import com.bookstore.utils.Config;
+import com.fasterxml.jackson.databind.JavaType;
+import io.restassured.RestAssured;
+
+import javax.net.ssl.SSLSession;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Non-blocking HTTP engine behind {@link BooksAsyncClient} and {@link AuthorsAsyncClient}.
+ * <p>
+ * Built on the JDK {@link HttpClient}, which multiplexes requests over a small selector thread
+ * instead of parking one thread per call. The number of in-flight requests is bounded by a
+ * semaphore: once the limit is reached, callers block in {@link #send} until a response frees
+ * a slot (backpressure), and give up with {@link RejectedExecutionException} after the acquire timeout.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>async.max.in.flight</b> - Max concurrent requests (default 64)</li>
+ *   <li><b>async.acquire.timeout.ms</b> - Max time a caller waits for a free slot (default 30000)</li>
+ *   <li><b>timeout.connect.ms</b> - Connect timeout of the underlying client (default 5000)</li>
+ * </ul>
+ * Each request is also bounded by the total timeout of its endpoint (see {@link Timeouts}), cut to the
+ * sending thread's {@link Deadline}: {@link #send} then aborts the exchange and completes with a
+ * {@code TimeoutException}, so a slot is never handed on while its connection is still downloading;
+ * {@link #stream} futures with an {@code HttpTimeoutException} if the headers are late. An already
+ * expired deadline fails the call with {@link DeadlineExceededException}.
+ * </p>
+ * <p>
+ * Calls get the same treatment as the RestAssured filter chain: they are recorded to or replayed from
+ * the {@link Cassette} (see {@link CassetteFilter}), judged by the endpoint's {@link CircuitBreaker}, held
+ * until its {@link Limits} admit them, and recorded into {@link LatencyMetrics}. A call rejected by an
+ * open breaker, a missing permit or a full in-flight limit throws from {@link #send}/{@link #stream}
+ * without being sent. Since responses complete on the client's threads, latencies are not added to the
+ * sender's {@code LatencyCapture}, and streamed calls are timed up to the response headers.
+ * </p>
+ */
+public final class AsyncTransport {
+
+    private static final int MAX_IN_FLIGHT = Config.get().getPositiveInt("async.max.in.flight", 64);
+    private static final long ACQUIRE_TIMEOUT_MS = Config.get().getDuration("async.acquire.timeout.ms", Duration.ofSeconds(30)).toMillis();
+    private static final Semaphore IN_FLIGHT = new Semaphore(MAX_IN_FLIGHT);
+
+    private static final HttpClient CLIENT = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Config.get().getDuration("timeout.connect.ms", Duration.ofSeconds(5)))
+            .build();
+
+    private AsyncTransport() { }
+
+    /**
+     * Sends a request without blocking on the response.
+     * Blocks only while the in-flight limit is exhausted.
+     * PUT and DELETE also drop the target from {@link ResponseCache}.
+     * @param method   HTTP method
+     * @param resource Target resource
+     * @param path     Path relative to the resource base path ("" or "/{id}")
+     * @param body     Request body (String sent as-is, anything else serialized as JSON), or null
+     * @return Future completed with the raw response
+     * @throws CircuitOpenException      if the endpoint's breaker is open
+     * @throws DeadlineExceededException if no limiter permit is granted within the call's budget
+     * @throws CassetteMissException     if a replayed cassette has no response for the request
+     */
+    public static CompletableFuture<HttpResponse<byte[]>> send(String method, Resource resource, String path, Object body) {
+        Endpoint endpoint = Endpoint.resolve(method, resource.basePath(), path);
+        long budgetNanos = Timeouts.budgetNanos(endpoint);
+        byte[] json = body == null ? null : toJson(body);
+        HttpRequest request = newRequest(resource, path, budgetNanos)
+                .header("Content-Type", "application/json")
+                .method(method, json == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofByteArray(json))
+                .build();
+
+        boolean invalidates = "PUT".equals(method) || "DELETE".equals(method);
+        if (invalidates) {
+            ResponseCache.invalidate(request.uri().toString());
+        }
+        CassetteMode mode = Cassette.mode();
+        String key = mode == CassetteMode.OFF ? null : cassetteKey(request, json);
+        if (mode == CassetteMode.REPLAY) {
+            return CompletableFuture.completedFuture(replay(request, key));
+        }
+        Admission admission = Admission.acquire(endpoint, budgetNanos);
+        CompletableFuture<HttpResponse<byte[]>> exchange;
+        try {
+            exchange = CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            admission.complete(null, e);
+            throw e;
+        }
+        // The request timeout only covers the headers. Once the budget is spent the exchange is cancelled,
+        // which aborts the connection, so the slot and permit are freed only when the socket is no longer busy.
+        CompletableFuture<HttpResponse<byte[]>> result = new CompletableFuture<>();
+        AtomicBoolean timedOut = new AtomicBoolean();
+        exchange.copy().orTimeout(budgetNanos, TimeUnit.NANOSECONDS).exceptionally(error -> {
+            if (error instanceof TimeoutException) {
+                timedOut.set(true);
+                exchange.cancel(true);
+            }
+            return null;
+        });
+        result.whenComplete((response, error) -> {
+            if (result.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        exchange.whenComplete((response, error) -> {
+            Throwable failure = response == null && timedOut.get()
+                    ? new TimeoutException(method + " " + request.uri() + " did not complete within "
+                            + TimeUnit.NANOSECONDS.toMillis(budgetNanos) + "ms")
+                    : error;
+            admission.complete(response, failure);
+            if (invalidates) {
+                ResponseCache.invalidate(request.uri().toString());
+            }
+            if (mode == CassetteMode.RECORD && response != null) {
+                record(key, response, response.body());
+            }
+            if (failure == null) {
+                result.complete(response);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Sends a GET whose body is consumed as a stream instead of being buffered.
+     * The in-flight slot is released once the response headers arrive. While a cassette is recorded
+     * the body is buffered first, so it can be written to the cassette.
+     * @param resource Target resource
+     * @param path     Path relative to the resource base path
+     * @return Future completed with the open body stream of a 2xx response
+     *         (exceptionally with {@link ApiResponseException} otherwise)
+     */
+    static CompletableFuture<InputStream> stream(Resource resource, String path) {
+        Endpoint endpoint = Endpoint.resolve("GET", resource.basePath(), path);
+        long budgetNanos = Timeouts.budgetNanos(endpoint);
+        HttpRequest request = newRequest(resource, path, budgetNanos)
+                .GET()
+                .build();
+
+        CassetteMode mode = Cassette.mode();
+        if (mode == CassetteMode.REPLAY) {
+            HttpResponse<byte[]> replayed = replay(request, cassetteKey(request, null));
+            return CompletableFuture.completedFuture(buffered(replayed)).thenApply(AsyncTransport::successBody);
+        }
+        Admission admission = Admission.acquire(endpoint, budgetNanos);
+        try {
+            if (mode == CassetteMode.RECORD) {
+                String key = cassetteKey(request, null);
+                return CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                        .whenComplete((response, error) -> {
+                            admission.complete(response, error);
+                            if (response != null) {
+                                record(key, response, response.body());
+                            }
+                        })
+                        .thenApply(response -> successBody(buffered(response)));
+            }
+            return CLIENT.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                    .whenComplete(admission::complete)
+                    .thenApply(AsyncTransport::successBody);
+        } catch (RuntimeException e) {
+            admission.complete(null, e);
+            throw e;
+        }
+    }
+
+    /** @return Number of requests currently in flight */
+    public static int inFlight() {
+        return MAX_IN_FLIGHT - IN_FLIGHT.availablePermits();
+    }
+
+    /**
+     * Decodes a 2xx response body, or throws {@link ApiResponseException} for any other status.
+     */
+    static <T> T decode(HttpResponse<byte[]> response, JavaType type) {
+        checkSuccess(response);
+        return Json.read(response.body(), type);
+    }
+
+    static void checkSuccess(HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            throw new ApiResponseException(response.request().method(), response.request().uri().toString(),
+                    status, new String(response.body(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private static InputStream successBody(HttpResponse<InputStream> response) {
+        int status = response.statusCode();
+        if (status >= 200 && status < 300) {
+            return response.body();
+        }
+        try (InputStream body = response.body()) {
+            throw new ApiResponseException(response.request().method(), response.request().uri().toString(),
+                    status, new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read error body of " + response.request().uri(), e);
+        }
+    }
+
+    private static HttpRequest.Builder newRequest(Resource resource, String path, long budgetNanos) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(RestAssured.baseURI + resource.basePath() + path))
+                .timeout(Duration.ofNanos(budgetNanos))
+                .header("Accept", "application/json");
+        if (HttpTransport.authorization() != null) {
+            builder.header("Authorization", HttpTransport.authorization());
+        }
+        return builder;
+    }
+
+    private static String cassetteKey(HttpRequest request, byte[] body) {
+        URI uri = request.uri();
+        String path = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        return CassetteKey.of(request.method(), path, body == null ? null : new String(body, StandardCharsets.UTF_8));
+    }
+
+    private static HttpResponse<byte[]> replay(HttpRequest request, String key) {
+        Interaction interaction = Cassette.reader().next(key);
+        if (interaction == null) {
+            throw new CassetteMissException(key);
+        }
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String line : interaction.headers()) {
+            int colon = line.indexOf(':');
+            headers.computeIfAbsent(line.substring(0, colon), name -> new ArrayList<>())
+                    .add(line.substring(colon + 1).trim());
+        }
+        return new Replayed(request, interaction.status(), HttpHeaders.of(headers, (name, value) -> true),
+                interaction.body());
+    }
+
+    private static void record(String key, HttpResponse<?> response, byte[] body) {
+        List<String> lines = new ArrayList<>();
+        response.headers().map().forEach((name, values) -> values.forEach(value -> lines.add(name + ": " + value)));
+        Cassette.writer().append(new Interaction(key, response.statusCode(), lines, body));
+    }
+
+    private static HttpResponse<InputStream> buffered(HttpResponse<byte[]> response) {
+        return new Streamed(response, new ByteArrayInputStream(response.body()));
+    }
+
+    /** Response served from the cassette. */
+    private record Replayed(HttpRequest request, int statusCode, HttpHeaders headers, byte[] body)
+            implements HttpResponse<byte[]> {
+
+        @Override
+        public Optional<HttpResponse<byte[]>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+
+    /** Buffered response whose body is handed out as a stream. */
+    private record Streamed(HttpResponse<byte[]> response, InputStream body) implements HttpResponse<InputStream> {
+
+        @Override
+        public int statusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return response.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<InputStream>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return response.headers();
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return response.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return response.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return response.version();
+        }
+    }
+
+    /**
+     * Admission of one call that goes on the wire, mirroring {@link CircuitBreakerFilter} and {@link LimitFilter}:
+     * breaker first, then an in-flight slot, then a limiter permit. {@link #complete} must be called exactly
+     * once; it frees the slot and records the outcome into the breaker, the limiter and {@link LatencyMetrics}.
+     */
+    private static final class Admission {
+
+        private final Endpoint endpoint;
+        private final CircuitBreaker breaker;
+        private final EndpointLimiter.Permit permit;
+        private final long start = System.nanoTime();
+
+        private Admission(Endpoint endpoint, CircuitBreaker breaker, EndpointLimiter.Permit permit) {
+            this.endpoint = endpoint;
+            this.breaker = breaker;
+            this.permit = permit;
+        }
+
+        static Admission acquire(Endpoint endpoint, long maxWaitNanos) {
+            CircuitBreaker breaker = CircuitBreaker.isEnabled() ? CircuitBreaker.of(endpoint) : null;
+            if (breaker != null) {
+                breaker.acquire();
+            }
+            try {
+                acquireSlot();
+                try {
+                    return new Admission(endpoint, breaker, acquirePermit(endpoint, maxWaitNanos));
+                } catch (RuntimeException e) {
+                    IN_FLIGHT.release();
+                    throw e;
+                }
+            } catch (RuntimeException e) { // not sent: the backend was not asked
+                if (breaker != null) {
+                    breaker.onIgnored();
+                }
+                throw e;
+            }
+        }
+
+        void complete(HttpResponse<?> response, Throwable error) {
+            long elapsed = System.nanoTime() - start;
+            int status = response == null ? LatencyMetrics.NO_RESPONSE : response.statusCode();
+            IN_FLIGHT.release();
+            LatencyMetrics.record(endpoint, status, elapsed);
+            if (permit != null) {
+                permit.release(status, elapsed);
+            }
+            if (breaker == null) {
+                return;
+            }
+            if (response == null) {
+                breaker.onFailure(String.valueOf(error));
+            } else if (status >= 500) {
+                breaker.onFailure("HTTP " + status);
+            } else {
+                breaker.onSuccess();
+            }
+        }
+
+        private static void acquireSlot() {
+            try {
+                if (!IN_FLIGHT.tryAcquire(ACQUIRE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    throw new RejectedExecutionException("No free async request slot after " + ACQUIRE_TIMEOUT_MS
+                            + "ms (async.max.in.flight=" + MAX_IN_FLIGHT + ")");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for an async request slot", e);
+            }
+        }
+
+        private static EndpointLimiter.Permit acquirePermit(Endpoint endpoint, long maxWaitNanos) {
+            EndpointLimiter limiter = Limits.isEnabled() ? Limits.of(endpoint) : null;
+            if (limiter == null) {
+                return null;
+            }
+            EndpointLimiter.Permit permit;
+            try {
+                permit = limiter.acquire(maxWaitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for a permit for " + endpoint.label(), e);
+            }
+            if (permit == null) {
+                throw new DeadlineExceededException("No permit for " + endpoint.label() + " within "
+                        + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms (client-side limit, see limit.* settings)");
+            }
+            return permit;
+        }
+    }
+
+    private static byte[] toJson(Object body) {
+        if (body instanceof String) {
+            return ((String) body).getBytes(StandardCharsets.UTF_8);
+        }
+        return Json.write(body);
+    }
+}
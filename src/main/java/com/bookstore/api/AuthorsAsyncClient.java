@@ -0,0 +1,95 @@
+package com.bookstore.api;
+
+import com.bookstore.model.Author;
+import com.bookstore.model.Json;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link AuthorsClient}.
+ * Same operations, but every call returns immediately with a {@link CompletableFuture},
+ * so large fan-out checks (e.g. thousands of IDs) can run concurrently.
+ * Futures complete exceptionally with {@link ApiResponseException} on non-2xx responses.
+ * In-flight requests are bounded by {@link AsyncTransport}.
+ */
+public class AuthorsAsyncClient {
+
+    /**
+     * GET all authors from the API.
+     * @return Future with all authors
+     */
+    public static CompletableFuture<List<Author>> getAllAuthors() {
+        return AsyncTransport.send("GET", Resource.AUTHORS, "", null)
+                .thenApply(res -> AsyncTransport.decode(res, Json.AUTHOR_LIST));
+    }
+
+    /**
+     * GET all authors as a stream, without buffering the response body.
+     * The caller must close the returned reader.
+     * @return Future with a reader over the authors
+     */
+    public static CompletableFuture<JsonArrayReader<Author>> streamAllAuthors() {
+        return AsyncTransport.stream(Resource.AUTHORS, "")
+                .thenApply(body -> JsonArrayReader.of(body, Author.class));
+    }
+
+    /**
+     * GET a single author by its ID.
+     * @param id Author ID to retrieve
+     * @return Future with the author
+     */
+    public static CompletableFuture<Author> getAuthorById(int id) {
+        return getAuthorById(String.valueOf(id));
+    }
+
+    /**
+     * GET a single author by string ID (for edge cases).
+     * @param id Author ID as string
+     * @return Future with the author
+     */
+    public static CompletableFuture<Author> getAuthorById(String id) {
+        return AsyncTransport.send("GET", Resource.AUTHORS, "/" + id, null)
+                .thenApply(res -> AsyncTransport.decode(res, Json.AUTHOR));
+    }
+
+    /**
+     * POST a new author to the API.
+     * @param author Author object (or raw JSON string) to add
+     * @return Future with the created author
+     */
+    public static CompletableFuture<Author> addAuthor(Object author) {
+        return AsyncTransport.send("POST", Resource.AUTHORS, "", author)
+                .thenApply(res -> AsyncTransport.decode(res, Json.AUTHOR));
+    }
+
+    /**
+     * PUT update an existing author by ID.
+     * @param id   Author ID to update
+     * @param author Updated author object (or raw JSON string)
+     * @return Future with the updated author
+     */
+    public static CompletableFuture<Author> updateAuthor(int id, Object author) {
+        return AsyncTransport.send("PUT", Resource.AUTHORS, "/" + id, author)
+                .thenApply(res -> AsyncTransport.decode(res, Json.AUTHOR));
+    }
+
+    /**
+     * DELETE a author by ID.
+     * @param id Author ID to delete
+     * @return Future completed once the author is deleted
+     */
+    public static CompletableFuture<Void> deleteAuthor(int id) {
+        return deleteAuthor(String.valueOf(id));
+    }
+
+    /**
+     * DELETE a author by string ID (for edge cases).
+     * @param id Author ID as string
+     * @return Future completed once the author is deleted
+     */
+    public static CompletableFuture<Void> deleteAuthor(String id) {
+        return AsyncTransport.send("DELETE", Resource.AUTHORS, "/" + id, null)
+                .thenAccept(AsyncTransport::checkSuccess);
+    }
+}
@@ -1,8 +1,12 @@
 package com.bookstore.api;
 
+import com.bookstore.model.Author;
+import com.bookstore.model.Json;
 import io.restassured.response.Response;
-import io.restassured.http.ContentType;
-import io.qameta.allure.restassured.AllureRestAssured;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Collection;
+import java.util.List;
 
 import static io.restassured.RestAssured.*;
 
@@ -10,6 +14,7 @@ import static io.restassured.RestAssured.*;
  * API client class for all Author-related endpoints.
  * All methods here should only handle HTTP request/response.
  * No assertions here! Keep this layer reusable for all types of tests.
+ * GET, PUT and DELETE calls are retried on transient failures (see {@link Retry}).
  */
 public class AuthorsClient {
 
@@ -18,12 +23,9 @@ public class AuthorsClient {
      * @return HTTP response object containing all authors.
      */
     public static Response getAllAuthors() {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.AUTHORS_LIST, () -> given(spec())
                 .when()
-                .get("/api/v1/Authors");
+                .get());
     }
 
     /**
@@ -32,12 +34,28 @@ public class AuthorsClient {
      * @return HTTP response object containing the author
      */
     public static Response getAuthorById(int id) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.AUTHORS_GET, () -> given(spec())
                 .when()
-                .get("/api/v1/Authors/" + id);
+                .get("/" + id));
+    }
+
+    /**
+     * GET all authors, decoded once into typed objects.
+     * @return All authors
+     * @throws ApiResponseException if the API does not answer 2xx
+     */
+    public static List<Author> getAllAuthorsAs() {
+        return Responses.decode(getAllAuthors(), "GET " + Resource.AUTHORS.basePath(), Json.AUTHOR_LIST);
+    }
+
+    /**
+     * GET a single author by its ID, decoded once into a typed object.
+     * @param id Author ID to retrieve
+     * @return The author
+     * @throws ApiResponseException if the API does not answer 2xx (e.g. 404)
+     */
+    public static Author getAuthorByIdAs(int id) {
+        return Responses.decode(getAuthorById(id), "GET " + Resource.AUTHORS.basePath() + "/" + id, Json.AUTHOR);
     }
 
     /**
@@ -46,12 +64,9 @@ public class AuthorsClient {
      * @return HTTP response object containing the author/error
      */
     public static Response getAuthorById(String id) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.AUTHORS_GET, () -> given(spec())
                 .when()
-                .get("/api/v1/Authors/" + id);
+                .get("/" + id));
     }
 
     /**
@@ -60,13 +75,10 @@ public class AuthorsClient {
      * @return HTTP response object with created author
      */
     public static Response addAuthor(Object author) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return given(spec())
                 .body(author)
                 .when()
-                .post("/api/v1/Authors");
+                .post();
     }
 
     /**
@@ -76,13 +88,10 @@ public class AuthorsClient {
      * @return HTTP response object with updated author
      */
     public static Response updateAuthor(int id, Object author) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.AUTHORS_UPDATE, () -> given(spec())
                 .body(author)
                 .when()
-                .put("/api/v1/Authors/" + id);
+                .put("/" + id));
     }
 
     /**
@@ -91,12 +100,9 @@ public class AuthorsClient {
      * @return HTTP response object
      */
     public static Response deleteAuthor(int id) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.AUTHORS_DELETE, () -> given(spec())
                 .when()
-                .delete("/api/v1/Authors/" + id);
+                .delete("/" + id));
     }
 
     /**
@@ -105,11 +111,37 @@ public class AuthorsClient {
      * @return HTTP response object
      */
     public static Response deleteAuthor(String id) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.AUTHORS_DELETE, () -> given(spec())
                 .when()
-                .delete("/api/v1/Authors/" + id);
+                .delete("/" + id));
+    }
+
+    /**
+     * POST many authors, pipelined with bounded concurrency (see {@link AsyncTransport}).
+     * Blocks until every request has completed; individual failures do not stop the batch.
+     * @param authors Authors to add
+     * @return Per-item status and failure summary
+     */
+    public static BatchResult addAuthors(Collection<Author> authors) {
+        List<Author> items = List.copyOf(authors);
+        int[] ids = items.stream().mapToInt(Author::getId).toArray();
+        return Batch.run("POST", Resource.AUTHORS, ids, items::get);
+    }
+
+    /**
+     * DELETE many authors by ID, pipelined with bounded concurrency (see {@link AsyncTransport}).
+     * Blocks until every request has completed; individual failures do not stop the batch.
+     * @param ids Author IDs to delete
+     * @return Per-item status and failure summary
+     */
+    public static BatchResult deleteAuthors(int... ids) {
+        return Batch.run("DELETE", Resource.AUTHORS, ids.clone(), null);
+    }
+
+    /**
+     * Shared, prebuilt spec for the Authors resource (see {@link RequestSpecCache}).
+     */
+    private static RequestSpecification spec() {
+        return RequestSpecCache.get(Resource.AUTHORS);
     }
 }
\ No newline at end of file
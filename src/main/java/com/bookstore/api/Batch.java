@@ -0,0 +1,65 @@
+package com.bookstore.api;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+
+/**
+ * Runs one request per item through {@link AsyncTransport} and collects a {@link BatchResult}.
+ * <p>
+ * Requests are pipelined: the caller keeps sending while earlier responses are outstanding, and
+ * only blocks while async.max.in.flight requests are open (or an endpoint limit holds it). Failures,
+ * including calls rejected before sending (open breaker, no permit, cassette miss), never abort the
+ * batch; they are recorded per item.
+ * </p>
+ */
+final class Batch {
+
+    private Batch() { }
+
+    /**
+     * @param method   HTTP method
+     * @param resource Target resource
+     * @param ids      Item IDs; for anything but POST the request goes to "/{id}"
+     * @param bodies   Request body of the item at an index, or null for no bodies
+     * @return Per-item outcome, once every request has completed
+     */
+    static BatchResult run(String method, Resource resource, int[] ids, IntFunction<Object> bodies) {
+        long start = System.nanoTime();
+        int[] statuses = new int[ids.length];
+        Map<Integer, String> errors = new ConcurrentHashMap<>();
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[ids.length];
+        boolean itemPath = !"POST".equals(method);
+
+        for (int i = 0; i < ids.length; i++) {
+            int index = i;
+            try {
+                calls[i] = AsyncTransport.send(method, resource, itemPath ? "/" + ids[i] : "",
+                                bodies == null ? null : bodies.apply(i))
+                        .handle((response, error) -> {
+                            if (error == null) {
+                                statuses[index] = response.statusCode();
+                            } else {
+                                fail(statuses, errors, index, error);
+                            }
+                            return null;
+                        });
+            } catch (RuntimeException e) { // rejected before it was sent
+                fail(statuses, errors, index, e);
+                calls[i] = CompletableFuture.completedFuture(null);
+            }
+        }
+        CompletableFuture.allOf(calls).join();
+        return new BatchResult(method + " " + resource.basePath(), ids, statuses, errors,
+                Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static void fail(int[] statuses, Map<Integer, String> errors, int index, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        statuses[index] = -1;
+        errors.put(index, cause.toString());
+    }
+}
@@ -0,0 +1,129 @@
+package com.bookstore.api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outcome of a batch call such as {@link BooksClient#addBooks} or {@link BooksClient#deleteBooks}.
+ * <p>
+ * Keeps the HTTP status of every item (-1 if the request failed without a response) in a flat array,
+ * so results of 100k-item batches stay small. An item succeeded if its status is 2xx.
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   BatchResult result = BooksClient.addBooks(books);
+ *   assertThat(result.toString(), result.getFailed(), is(0));
+ * </code>
+ * </p>
+ */
+public final class BatchResult {
+
+    /** Max failed items listed by {@link #toString()}. */
+    private static final int MAX_EXAMPLES = 10;
+
+    private final String operation;
+    private final int[] ids;
+    private final int[] statuses;
+    private final Map<Integer, String> errors;
+    private final Duration elapsed;
+    private final int failed;
+
+    BatchResult(String operation, int[] ids, int[] statuses, Map<Integer, String> errors, Duration elapsed) {
+        this.operation = operation;
+        this.ids = ids;
+        this.statuses = statuses;
+        this.errors = errors;
+        this.elapsed = elapsed;
+        int count = 0;
+        for (int status : statuses) {
+            if (!isSuccess(status)) {
+                count++;
+            }
+        }
+        this.failed = count;
+    }
+
+    /** One item of the batch. */
+    public record Item(int id, int status, String error) {
+
+        /** @return true if the item got a 2xx response */
+        public boolean isSuccess() {
+            return BatchResult.isSuccess(status);
+        }
+    }
+
+    /** @return Method and resource, e.g. "POST /api/v1/Books" */
+    public String getOperation() { return operation; }
+
+    /** @return Number of items sent */
+    public int getTotal() { return ids.length; }
+
+    /** @return Number of items with a 2xx response */
+    public int getSucceeded() { return ids.length - failed; }
+
+    /** @return Number of items with a non-2xx response or no response */
+    public int getFailed() { return failed; }
+
+    /** @return Wall time of the whole batch */
+    public Duration getElapsed() { return elapsed; }
+
+    /**
+     * @param index Position of the item in the batch
+     * @return The item's status, error included if it had no response
+     */
+    public Item item(int index) {
+        return new Item(ids[index], statuses[index], errors.get(index));
+    }
+
+    /** @return All items that did not succeed, in batch order */
+    public List<Item> failures() {
+        if (failed == 0) {
+            return Collections.emptyList();
+        }
+        List<Item> failures = new ArrayList<>(failed);
+        for (int i = 0; i < ids.length; i++) {
+            if (!isSuccess(statuses[i])) {
+                failures.add(item(i));
+            }
+        }
+        return failures;
+    }
+
+    /** @return Failure count per outcome, e.g. {"HTTP 409": 3, "no response": 1} */
+    public Map<String, Integer> failureCounts() {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (int status : statuses) {
+            if (!isSuccess(status)) {
+                counts.merge(status < 0 ? "no response" : "HTTP " + status, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /** @return e.g. "POST /api/v1/Books: 1000 items, 998 ok, 2 failed {HTTP 409=2} in 812ms, first: [...]" */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder()
+                .append(operation).append(": ").append(ids.length).append(" items, ")
+                .append(getSucceeded()).append(" ok, ").append(failed).append(" failed");
+        if (failed > 0) {
+            sb.append(' ').append(failureCounts());
+        }
+        sb.append(" in ").append(elapsed.toMillis()).append("ms");
+        if (failed > 0) {
+            List<Item> failures = failures();
+            sb.append(", first: ").append(failures.subList(0, Math.min(MAX_EXAMPLES, failures.size())));
+        }
+        return sb.toString();
+    }
+
+    private static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+}
@@ -0,0 +1,95 @@
+package com.bookstore.api;
+
+import com.bookstore.model.Book;
+import com.bookstore.model.Json;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link BooksClient}.
+ * Same operations, but every call returns immediately with a {@link CompletableFuture},
+ * so large fan-out checks (e.g. thousands of IDs) can run concurrently.
+ * Futures complete exceptionally with {@link ApiResponseException} on non-2xx responses.
+ * In-flight requests are bounded by {@link AsyncTransport}.
+ */
+public class BooksAsyncClient {
+
+    /**
+     * GET all books from the API.
+     * @return Future with all books
+     */
+    public static CompletableFuture<List<Book>> getAllBooks() {
+        return AsyncTransport.send("GET", Resource.BOOKS, "", null)
+                .thenApply(res -> AsyncTransport.decode(res, Json.BOOK_LIST));
+    }
+
+    /**
+     * GET all books as a stream, without buffering the response body.
+     * The caller must close the returned reader.
+     * @return Future with a reader over the books
+     */
+    public static CompletableFuture<JsonArrayReader<Book>> streamAllBooks() {
+        return AsyncTransport.stream(Resource.BOOKS, "")
+                .thenApply(body -> JsonArrayReader.of(body, Book.class));
+    }
+
+    /**
+     * GET a single book by its ID.
+     * @param id Book ID to retrieve
+     * @return Future with the book
+     */
+    public static CompletableFuture<Book> getBookById(int id) {
+        return getBookById(String.valueOf(id));
+    }
+
+    /**
+     * GET a single book by string ID (for edge cases).
+     * @param id Book ID as string
+     * @return Future with the book
+     */
+    public static CompletableFuture<Book> getBookById(String id) {
+        return AsyncTransport.send("GET", Resource.BOOKS, "/" + id, null)
+                .thenApply(res -> AsyncTransport.decode(res, Json.BOOK));
+    }
+
+    /**
+     * POST a new book to the API.
+     * @param book Book object (or raw JSON string) to add
+     * @return Future with the created book
+     */
+    public static CompletableFuture<Book> addBook(Object book) {
+        return AsyncTransport.send("POST", Resource.BOOKS, "", book)
+                .thenApply(res -> AsyncTransport.decode(res, Json.BOOK));
+    }
+
+    /**
+     * PUT update an existing book by ID.
+     * @param id   Book ID to update
+     * @param book Updated book object (or raw JSON string)
+     * @return Future with the updated book
+     */
+    public static CompletableFuture<Book> updateBook(int id, Object book) {
+        return AsyncTransport.send("PUT", Resource.BOOKS, "/" + id, book)
+                .thenApply(res -> AsyncTransport.decode(res, Json.BOOK));
+    }
+
+    /**
+     * DELETE a book by ID.
+     * @param id Book ID to delete
+     * @return Future completed once the book is deleted
+     */
+    public static CompletableFuture<Void> deleteBook(int id) {
+        return deleteBook(String.valueOf(id));
+    }
+
+    /**
+     * DELETE a book by string ID (for edge cases).
+     * @param id Book ID as string
+     * @return Future completed once the book is deleted
+     */
+    public static CompletableFuture<Void> deleteBook(String id) {
+        return AsyncTransport.send("DELETE", Resource.BOOKS, "/" + id, null)
+                .thenAccept(AsyncTransport::checkSuccess);
+    }
+}
@@ -1,8 +1,12 @@
 package com.bookstore.api;
 
+import com.bookstore.model.Book;
+import com.bookstore.model.Json;
 import io.restassured.response.Response;
-import io.restassured.http.ContentType;
-import io.qameta.allure.restassured.AllureRestAssured; // <-- Allure filter import
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Collection;
+import java.util.List;
 
 import static io.restassured.RestAssured.*;
 
@@ -10,6 +14,7 @@ import static io.restassured.RestAssured.*;
  * API client class for all Book-related endpoints.
  * All methods here should only handle HTTP request/response.
  * No assertions here! Keep this layer reusable for all types of tests.
+ * GET, PUT and DELETE calls are retried on transient failures (see {@link Retry}).
  */
 public class BooksClient {
     /**
@@ -17,12 +22,9 @@ public class BooksClient {
      * @return HTTP response object containing all books.
      */
     public static Response getAllBooks() {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all() // Logs the request details for debugging
+        return Retry.call(Endpoint.BOOKS_LIST, () -> given(spec())
                 .when()
-                .get("/api/v1/Books");
+                .get());
     }
 
     /**
@@ -31,12 +33,28 @@ public class BooksClient {
      * @return HTTP response object containing the book
      */
     public static Response getBookById(int id) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.BOOKS_GET, () -> given(spec())
                 .when()
-                .get("/api/v1/Books/" + id);
+                .get("/" + id));
+    }
+
+    /**
+     * GET all books, decoded once into typed objects.
+     * @return All books
+     * @throws ApiResponseException if the API does not answer 2xx
+     */
+    public static List<Book> getAllBooksAs() {
+        return Responses.decode(getAllBooks(), "GET " + Resource.BOOKS.basePath(), Json.BOOK_LIST);
+    }
+
+    /**
+     * GET a single book by its ID, decoded once into a typed object.
+     * @param id Book ID to retrieve
+     * @return The book
+     * @throws ApiResponseException if the API does not answer 2xx (e.g. 404)
+     */
+    public static Book getBookByIdAs(int id) {
+        return Responses.decode(getBookById(id), "GET " + Resource.BOOKS.basePath() + "/" + id, Json.BOOK);
     }
 
     /**
@@ -45,12 +63,9 @@ public class BooksClient {
      * @return HTTP response object containing the book/error
      */
     public static Response getBookById(String id) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.BOOKS_GET, () -> given(spec())
                 .when()
-                .get("/api/v1/Books/" + id);
+                .get("/" + id));
     }
 
     /**
@@ -59,13 +74,10 @@ public class BooksClient {
      * @return HTTP response object with created book
      */
     public static Response addBook(Object book) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return given(spec())
                 .body(book)
                 .when()
-                .post("/api/v1/Books");
+                .post();
     }
 
     /**
@@ -75,13 +87,10 @@ public class BooksClient {
      * @return HTTP response object with updated book
      */
     public static Response updateBook(int id, Object book) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.BOOKS_UPDATE, () -> given(spec())
                 .body(book)
                 .when()
-                .put("/api/v1/Books/" + id);
+                .put("/" + id));
     }
 
     /**
@@ -90,12 +99,9 @@ public class BooksClient {
      * @return HTTP response object
      */
     public static Response deleteBook(int id) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.BOOKS_DELETE, () -> given(spec())
                 .when()
-                .delete("/api/v1/Books/" + id);
+                .delete("/" + id));
     }
 
     /**
@@ -104,11 +110,37 @@ public class BooksClient {
      * @return HTTP response object
      */
     public static Response deleteBook(String id) {
-        return given()
-                .filter(new AllureRestAssured())
-                .contentType(ContentType.JSON)
-                .log().all()
+        return Retry.call(Endpoint.BOOKS_DELETE, () -> given(spec())
                 .when()
-                .delete("/api/v1/Books/" + id);
+                .delete("/" + id));
+    }
+
+    /**
+     * POST many books, pipelined with bounded concurrency (see {@link AsyncTransport}).
+     * Blocks until every request has completed; individual failures do not stop the batch.
+     * @param books Books to add
+     * @return Per-item status and failure summary
+     */
+    public static BatchResult addBooks(Collection<Book> books) {
+        List<Book> items = List.copyOf(books);
+        int[] ids = items.stream().mapToInt(Book::getId).toArray();
+        return Batch.run("POST", Resource.BOOKS, ids, items::get);
+    }
+
+    /**
+     * DELETE many books by ID, pipelined with bounded concurrency (see {@link AsyncTransport}).
+     * Blocks until every request has completed; individual failures do not stop the batch.
+     * @param ids Book IDs to delete
+     * @return Per-item status and failure summary
+     */
+    public static BatchResult deleteBooks(int... ids) {
+        return Batch.run("DELETE", Resource.BOOKS, ids.clone(), null);
+    }
+
+    /**
+     * Shared, prebuilt spec for the Books resource (see {@link RequestSpecCache}).
+     */
+    private static RequestSpecification spec() {
+        return RequestSpecCache.get(Resource.BOOKS);
     }
 }
\ No newline at end of file
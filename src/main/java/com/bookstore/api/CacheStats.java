@@ -0,0 +1,57 @@
+package com.bookstore.api;
+
+import java.util.Locale;
+
+/**
+ * Point-in-time snapshot of the GET-by-ID {@link ResponseCache}.
+ * Counters are cumulative since the cache was created (or last cleared).
+ */
+public class CacheStats {
+
+    private final long hits;
+    private final long misses;
+    private final long revalidations;
+    private final long evictions;
+    private final long invalidations;
+    private final int size;
+
+    public CacheStats(long hits, long misses, long revalidations, long evictions, long invalidations, int size) {
+        this.hits = hits;
+        this.misses = misses;
+        this.revalidations = revalidations;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.size = size;
+    }
+
+    /** @return Requests answered from a fresh entry, without a network call */
+    public long getHits() { return hits; }
+
+    /** @return Requests that went to the server and (if 200) filled the cache */
+    public long getMisses() { return misses; }
+
+    /** @return Expired entries confirmed unchanged by a 304 Not Modified */
+    public long getRevalidations() { return revalidations; }
+
+    /** @return Entries dropped because the cache was full or the entry expired */
+    public long getEvictions() { return evictions; }
+
+    /** @return Entries dropped by PUT/DELETE of the same resource */
+    public long getInvalidations() { return invalidations; }
+
+    /** @return Entries currently cached */
+    public int getSize() { return size; }
+
+    /** @return Share of lookups served without a full response (hits + revalidations) */
+    public double getHitRatio() {
+        long lookups = hits + misses + revalidations;
+        return lookups == 0 ? 0 : (double) (hits + revalidations) / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "CacheStats[hits=%d, misses=%d, revalidated=%d, evictions=%d, invalidations=%d, size=%d, hitRatio=%.2f]",
+                hits, misses, revalidations, evictions, invalidations, size, getHitRatio());
+    }
+}
@@ -0,0 +1,64 @@
+package com.bookstore.api;
+
+import com.bookstore.cassette.Cassette;
+import com.bookstore.cassette.CassetteKey;
+import com.bookstore.cassette.CassetteMissException;
+import com.bookstore.cassette.CassetteMode;
+import com.bookstore.cassette.Interaction;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Records client interactions to, or replays them from, the run's {@link Cassette}.
+ * <p>
+ * Sits right before {@link LatencyFilter}: replayed calls never reach the network (and are not
+ * counted as latency), while logging and Allure reporting still see every response.
+ * </p>
+ */
+public class CassetteFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        CassetteMode mode = Cassette.mode();
+        if (mode == CassetteMode.OFF) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        URI uri = URI.create(requestSpec.getURI());
+        String path = uri.getRawQuery() == null ? uri.getRawPath() : uri.getRawPath() + "?" + uri.getRawQuery();
+        String key = CassetteKey.of(requestSpec.getMethod(), path, bodyText(requestSpec.getBody()));
+
+        if (mode == CassetteMode.REPLAY) {
+            Interaction interaction = Cassette.reader().next(key);
+            if (interaction == null) {
+                throw new CassetteMissException(key);
+            }
+            return Responses.of(interaction.status(), interaction.headers(), interaction.body());
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        Cassette.writer().append(new Interaction(key, response.statusCode(), Responses.headerLines(response),
+                response.asByteArray()));
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 3;
+    }
+
+    private static String bodyText(Object body) {
+        if (body == null) {
+            return null;
+        }
+        if (body instanceof byte[]) {
+            return new String((byte[]) body, StandardCharsets.UTF_8);
+        }
+        return body.toString();
+    }
+}
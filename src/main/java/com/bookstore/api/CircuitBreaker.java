@@ -0,0 +1,233 @@
+package com.bookstore.api;
+
+import com.bookstore.logging.HttpLog;
+import com.bookstore.logging.LogLevel;
+import com.bookstore.utils.Config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-endpoint circuit breaker, applied to every client call by {@link CircuitBreakerFilter}.
+ * <p>
+ * <b>CLOSED</b>: calls pass; the outcomes of the last {@code breaker.window.size} calls are kept, and once at
+ * least {@code breaker.min.calls} of them exist and the share of failures (5xx or no response) reaches
+ * {@code breaker.failure.rate}, the breaker opens.<br>
+ * <b>OPEN</b>: calls fail immediately with {@link CircuitOpenException} for {@code breaker.open.ms}.<br>
+ * <b>HALF_OPEN</b>: up to {@code breaker.half.open.calls} trial calls pass; if all succeed the breaker closes
+ * with an empty window, the first failure opens it again.
+ * </p>
+ * <p>
+ * So when an endpoint is down, one window of failures is paid for, and everything after that fails
+ * fast instead of waiting out its own timeout.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>breaker.enabled</b> - Turn the breakers on (default true)</li>
+ *   <li><b>breaker.window.size</b> - Calls in the sliding window (default 20)</li>
+ *   <li><b>breaker.min.calls</b> - Calls needed before the failure rate is judged (default 10)</li>
+ *   <li><b>breaker.failure.rate</b> - Failure share that opens the breaker, 0..1 (default 0.5)</li>
+ *   <li><b>breaker.open.ms</b> - Time the breaker stays open before trial calls (default 30000)</li>
+ *   <li><b>breaker.half.open.calls</b> - Successful trial calls needed to close (default 2)</li>
+ * </ul>
+ * </p>
+ */
+public final class CircuitBreaker {
+
+    /** Breaker states. */
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final boolean ENABLED;
+    private static final int WINDOW_SIZE;
+    private static final int MIN_CALLS;
+    private static final double FAILURE_RATE;
+    private static final long OPEN_NANOS;
+    private static final int HALF_OPEN_CALLS;
+
+    static {
+        Config config = Config.get();
+        ENABLED = config.getBoolean("breaker.enabled", true);
+        WINDOW_SIZE = config.getPositiveInt("breaker.window.size", 20);
+        MIN_CALLS = Math.min(WINDOW_SIZE, config.getPositiveInt("breaker.min.calls", 10));
+        FAILURE_RATE = config.getDouble("breaker.failure.rate", 0.5);
+        OPEN_NANOS = config.getDuration("breaker.open.ms", Duration.ofSeconds(30)).toNanos();
+        HALF_OPEN_CALLS = config.getPositiveInt("breaker.half.open.calls", 2);
+    }
+
+    private static final Map<Endpoint, CircuitBreaker> BREAKERS = new EnumMap<>(Endpoint.class);
+
+    static {
+        for (Endpoint endpoint : Endpoint.values()) {
+            BREAKERS.put(endpoint, new CircuitBreaker(endpoint));
+        }
+    }
+
+    private final Endpoint endpoint;
+
+    /** Guarded by this. Ring buffer of outcomes, true = failure. */
+    private final boolean[] window = new boolean[WINDOW_SIZE];
+    private int next;
+    private int calls;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int trials;
+    private int trialSuccesses;
+    private String reason;
+
+    private CircuitBreaker(Endpoint endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    /** @return true if breakers are enabled (breaker.enabled) */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /** @return The breaker of the endpoint */
+    public static CircuitBreaker of(Endpoint endpoint) {
+        return BREAKERS.get(endpoint);
+    }
+
+    /**
+     * @return Why calls to the resource are currently rejected (one line per open breaker),
+     *         or empty if none of its endpoints is rejecting calls
+     */
+    public static Optional<String> rejecting(Resource resource) {
+        List<String> open = new ArrayList<>();
+        for (CircuitBreaker breaker : BREAKERS.values()) {
+            if (breaker.endpoint.resource() == resource) {
+                breaker.rejectionReason().ifPresent(open::add);
+            }
+        }
+        return open.isEmpty() ? Optional.empty() : Optional.of(String.join("; ", open));
+    }
+
+    /** @return Endpoint guarded by this breaker */
+    public Endpoint endpoint() {
+        return endpoint;
+    }
+
+    /** @return Current state */
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * Admits a call or rejects it.
+     * @throws CircuitOpenException while open, or half-open with all trial calls taken
+     */
+    synchronized void acquire() {
+        if (state == State.OPEN) {
+            long remainingNanos = OPEN_NANOS - (System.nanoTime() - openedAt);
+            if (remainingNanos > 0) {
+                throw new CircuitOpenException(endpoint, describeOpen(remainingNanos));
+            }
+            transition(State.HALF_OPEN);
+            trials = 0;
+            trialSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trials >= HALF_OPEN_CALLS) {
+                throw new CircuitOpenException(endpoint, "Circuit half-open for " + endpoint.label()
+                        + ": waiting for " + HALF_OPEN_CALLS + " trial call(s) (" + reason + ")");
+            }
+            trials++;
+        }
+    }
+
+    /** Records an admitted call that the backend answered below 500. */
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++trialSuccesses >= HALF_OPEN_CALLS) {
+                resetWindow();
+                transition(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Records an admitted call that failed (5xx or no response).
+     * @param failure Short description, e.g. the status line
+     */
+    synchronized void onFailure(String failure) {
+        if (state == State.HALF_OPEN) {
+            open("trial call failed: " + failure);
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (calls >= MIN_CALLS && failures >= FAILURE_RATE * calls) {
+                open(failures + "/" + calls + " recent calls failed, last: " + failure);
+            }
+        }
+    }
+
+    /** Releases an admitted call that never reached the backend (e.g. no limiter permit). */
+    synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && trials > trialSuccesses) {
+            trials--;
+        }
+    }
+
+    private synchronized Optional<String> rejectionReason() {
+        if (state != State.OPEN) {
+            return Optional.empty();
+        }
+        long remainingNanos = OPEN_NANOS - (System.nanoTime() - openedAt);
+        if (remainingNanos <= 0) {
+            return Optional.empty(); // next call is a trial
+        }
+        return Optional.of(describeOpen(remainingNanos));
+    }
+
+    private String describeOpen(long remainingNanos) {
+        return String.format(Locale.ROOT, "Circuit open for %s (%s); next trial in %dms",
+                endpoint.label(), reason, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+    }
+
+    private void record(boolean failure) {
+        if (calls == WINDOW_SIZE) {
+            if (window[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        window[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % WINDOW_SIZE;
+    }
+
+    private void open(String why) {
+        reason = why;
+        openedAt = System.nanoTime();
+        transition(State.OPEN);
+    }
+
+    private void resetWindow() {
+        next = 0;
+        calls = 0;
+        failures = 0;
+    }
+
+    private void transition(State to) {
+        HttpLog.event(to == State.OPEN ? LogLevel.WARN : LogLevel.INFO, "CircuitBreaker",
+                endpoint.label() + " " + state + " -> " + to + (to == State.OPEN ? " (" + reason + ")" : ""));
+        state = to;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return endpoint.label() + "[" + state + ", failures=" + failures + "/" + calls + "]";
+    }
+}
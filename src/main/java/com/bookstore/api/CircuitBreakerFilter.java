@@ -0,0 +1,51 @@
+package com.bookstore.api;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Passes each client call through its endpoint's {@link CircuitBreaker}.
+ * <p>
+ * Runs inside {@link ResponseCacheFilter} and {@link CassetteFilter}, so only calls that would reach the
+ * backend are judged, and outside {@link LimitFilter}, so a rejected call does not wait for a permit.
+ * Responses of 500 and above and calls without a response count as failures; a call that could not
+ * get a limiter permit counts as neither.
+ * </p>
+ */
+public class CircuitBreakerFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!CircuitBreaker.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Endpoint endpoint = Endpoint.resolve(requestSpec.getMethod(), requestSpec.getBasePath(), requestSpec.getUserDefinedPath());
+        CircuitBreaker breaker = CircuitBreaker.of(endpoint);
+        breaker.acquire();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (DeadlineExceededException e) { // no limiter permit in time: the backend was not asked
+            breaker.onIgnored();
+            throw e;
+        } catch (Exception e) { // RestAssured rethrows checked I/O exceptions unwrapped
+            breaker.onFailure(e.toString());
+            throw e;
+        }
+        if (response.statusCode() >= 500) {
+            breaker.onFailure(response.getStatusLine());
+        } else {
+            breaker.onSuccess();
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 2;
+    }
+}
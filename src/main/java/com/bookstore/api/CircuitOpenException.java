@@ -0,0 +1,21 @@
+package com.bookstore.api;
+
+/**
+ * Thrown instead of sending a request while the {@link CircuitBreaker} of its endpoint is open.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Endpoint endpoint;
+
+    public CircuitOpenException(Endpoint endpoint, String message) {
+        super(message);
+        this.endpoint = endpoint;
+    }
+
+    /** @return Endpoint whose breaker rejected the call */
+    public Endpoint getEndpoint() {
+        return endpoint;
+    }
+}
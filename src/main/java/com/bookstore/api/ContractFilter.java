@@ -0,0 +1,37 @@
+package com.bookstore.api;
+
+import com.bookstore.contract.ContractSampler;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Validates a sample of successful responses against their Book/Author contract (see {@link ContractSampler}).
+ * <p>
+ * Runs first in the filter chain, so the check is not part of any timeout, limit or recorded latency.
+ * A violation is only counted, never thrown: functional tests assert contracts explicitly, and load
+ * runs report the counts. With contract.sample.rate=0 the filter only passes the call through.
+ * </p>
+ */
+public class ContractFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (ContractSampler.isEnabled() && response.statusCode() >= 200 && response.statusCode() < 300) {
+            Endpoint endpoint = Endpoint.resolve(requestSpec.getMethod(), requestSpec.getBasePath(), requestSpec.getUserDefinedPath());
+            if (ContractSampler.sample(endpoint)) {
+                ContractSampler.check(endpoint, response.asByteArray());
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 8;
+    }
+}
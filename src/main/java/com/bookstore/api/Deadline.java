@@ -0,0 +1,85 @@
+package com.bookstore.api;
+
+import java.time.Duration;
+
+/**
+ * Time budget for a sequence of client calls on the current thread, e.g. a create &rarr; get &rarr;
+ * update &rarr; delete flow.
+ * <p>
+ * While a deadline is open, every {@link BooksClient}/{@link AuthorsClient} call (and every async call
+ * sent from this thread) gets at most the remaining time, on top of its own per-endpoint
+ * {@link Timeouts}. Once the budget is spent, calls fail immediately with
+ * {@link DeadlineExceededException} instead of waiting out their own timeouts.
+ * Deadlines nest; an inner deadline never extends an outer one.
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   try (Deadline deadline = Deadline.within(Duration.ofSeconds(10))) {
+ *       Book book = TestDataFactory.createBook("Flow");
+ *       BooksClient.updateBook(book.getId(), book);
+ *   }
+ * </code>
+ * </p>
+ */
+public final class Deadline implements AutoCloseable {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long deadlineNanos;
+    private final Duration budget;
+    private final Deadline previous;
+
+    private Deadline(long deadlineNanos, Duration budget, Deadline previous) {
+        this.deadlineNanos = deadlineNanos;
+        this.budget = budget;
+        this.previous = previous;
+    }
+
+    /**
+     * Opens a deadline on the current thread.
+     * @param budget Time allowed from now
+     * @return Open deadline; close it when the flow is done
+     */
+    public static Deadline within(Duration budget) {
+        Deadline outer = CURRENT.get();
+        long at = System.nanoTime() + budget.toNanos();
+        if (outer != null && outer.deadlineNanos - at < 0) {
+            at = outer.deadlineNanos;
+        }
+        Deadline deadline = new Deadline(at, budget, outer);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    /** @return The innermost open deadline of the current thread, or null */
+    static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /** @return Nanoseconds left (negative once expired) */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /** @return true once the budget is spent */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /** @return Budget this deadline was opened with */
+    public Duration budget() {
+        return budget;
+    }
+
+    /** Closes this deadline and restores the enclosing one, if any. */
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
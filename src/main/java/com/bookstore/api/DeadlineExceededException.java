@@ -0,0 +1,18 @@
+package com.bookstore.api;
+
+/**
+ * Thrown when a client call runs out of time: its per-endpoint total timeout or the enclosing
+ * {@link Deadline} expired before or while the request was in flight.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+    public DeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,81 @@
+package com.bookstore.api;
+
+/**
+ * Logical API endpoints (method + path template) used as the key for per-endpoint
+ * metrics and policies.
+ * <p>
+ * {@link #resolve} maps a concrete request to its endpoint without allocating,
+ * so it is safe to call on every request.
+ * </p>
+ */
+public enum Endpoint {
+    BOOKS_LIST("GET", Resource.BOOKS, false),
+    BOOKS_GET("GET", Resource.BOOKS, true),
+    BOOKS_CREATE("POST", Resource.BOOKS, false),
+    BOOKS_UPDATE("PUT", Resource.BOOKS, true),
+    BOOKS_DELETE("DELETE", Resource.BOOKS, true),
+    AUTHORS_LIST("GET", Resource.AUTHORS, false),
+    AUTHORS_GET("GET", Resource.AUTHORS, true),
+    AUTHORS_CREATE("POST", Resource.AUTHORS, false),
+    AUTHORS_UPDATE("PUT", Resource.AUTHORS, true),
+    AUTHORS_DELETE("DELETE", Resource.AUTHORS, true),
+    /** Anything not issued through the Books/Authors clients. */
+    OTHER("*", null, false);
+
+    private final String method;
+    private final Resource resource;
+    private final boolean byId;
+    private final String label;
+
+    Endpoint(String method, Resource resource, boolean byId) {
+        this.method = method;
+        this.resource = resource;
+        this.byId = byId;
+        this.label = resource == null ? "OTHER" : method + " " + resource.basePath() + (byId ? "/{id}" : "");
+    }
+
+    /** @return HTTP method, e.g. "GET" */
+    public String method() { return method; }
+
+    /** @return Resource this endpoint belongs to (null for {@link #OTHER}) */
+    public Resource resource() { return resource; }
+
+    /** @return Human-readable label, e.g. "GET /api/v1/Books/{id}" */
+    public String label() { return label; }
+
+    /**
+     * Resolves a request to its endpoint.
+     * @param method   HTTP method
+     * @param basePath Request base path, e.g. "/api/v1/Books"
+     * @param path     Path relative to the base path ("" for the collection, "/{id}" otherwise)
+     * @return Matching endpoint, or {@link #OTHER}
+     */
+    public static Endpoint resolve(String method, String basePath, String path) {
+        Resource resource;
+        if (Resource.BOOKS.basePath().equals(basePath)) {
+            resource = Resource.BOOKS;
+        } else if (Resource.AUTHORS.basePath().equals(basePath)) {
+            resource = Resource.AUTHORS;
+        } else {
+            return OTHER;
+        }
+        boolean byId = path != null && !path.isEmpty() && !"/".equals(path);
+        switch (method) {
+            case "GET":
+                return resource == Resource.BOOKS ? (byId ? BOOKS_GET : BOOKS_LIST) : (byId ? AUTHORS_GET : AUTHORS_LIST);
+            case "POST":
+                return byId ? OTHER : (resource == Resource.BOOKS ? BOOKS_CREATE : AUTHORS_CREATE);
+            case "PUT":
+                return byId ? (resource == Resource.BOOKS ? BOOKS_UPDATE : AUTHORS_UPDATE) : OTHER;
+            case "DELETE":
+                return byId ? (resource == Resource.BOOKS ? BOOKS_DELETE : AUTHORS_DELETE) : OTHER;
+            default:
+                return OTHER;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
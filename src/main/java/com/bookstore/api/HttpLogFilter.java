@@ -0,0 +1,67 @@
+package com.bookstore.api;
+
+import com.bookstore.logging.HttpExchange;
+import com.bookstore.logging.HttpLog;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hands every client call to {@link HttpLog}, which decides by {@code log.level} what is written
+ * and keeps recent exchanges for failure dumps.
+ * <p>
+ * Runs just outside {@link ResponseCacheFilter}, {@link CassetteFilter} and {@link LatencyFilter},
+ * so it sees the final request after all other filters.
+ * Does nothing when logging is fully disabled. Otherwise it only keeps references to the headers and the
+ * already-buffered bodies; {@link HttpExchange#format} renders them (at most {@code log.body.max.chars}
+ * per body) when the level writes them or a failure is dumped. Authorization header values are masked.
+ * </p>
+ */
+public class HttpLogFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!HttpLog.isCapturing()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Headers requestHeaders = requestSpec.getHeaders();
+        Object requestBody = requestSpec.getBody();
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) { // RestAssured rethrows checked I/O exceptions unwrapped
+            HttpLog.log(new HttpExchange(requestSpec.getMethod(), requestSpec.getURI(), () -> lines(requestHeaders),
+                    requestBody, 0, List::of, null, e.toString(), System.nanoTime() - start));
+            throw e;
+        }
+        long elapsed = System.nanoTime() - start;
+        Headers responseHeaders = response.getHeaders();
+        HttpLog.log(new HttpExchange(requestSpec.getMethod(), requestSpec.getURI(), () -> lines(requestHeaders),
+                requestBody, response.statusCode(), () -> lines(responseHeaders), response.asByteArray(), null,
+                elapsed));
+        return response;
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 5;
+    }
+
+    private static List<String> lines(Headers headers) {
+        List<String> lines = new ArrayList<>(headers.size());
+        for (Header header : headers) {
+            String value = "Authorization".equalsIgnoreCase(header.getName()) ? "***" : header.getValue();
+            lines.add(header.getName() + ": " + value);
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,331 @@
+package com.bookstore.api;
+
+import com.bookstore.model.Json;
+import com.bookstore.utils.Config;
+import com.bookstore.utils.ConfigException;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.ObjectMapperConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.mapper.ObjectMapperType;
+import org.apache.http.HttpHost;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.client.params.HttpClientParams;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.BasicHttpParams;
+import org.apache.http.params.CoreConnectionPNames;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Shared, pooled HTTP transport used by {@link BooksClient} and {@link AuthorsClient}.
+ * <p>
+ * RestAssured creates a new Apache HttpClient per request by default, so every call pays
+ * for its own TCP/TLS handshake. This class owns a single bounded connection pool with
+ * keep-alive, per-route limits and background idle eviction, and exposes it to RestAssured
+ * through {@link #config()}. The same config makes RestAssured (de)serialize bodies with the
+ * shared {@link Json#MAPPER}.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>http.pool.max.total</b> - Max pooled connections overall (default 50)</li>
+ *   <li><b>http.pool.max.per.route</b> - Default max connections per host (default 20)</li>
+ *   <li><b>http.pool.route.limits</b> - Per-route overrides, e.g. "https://staging.example.com=40,http://localhost:8080=5"</li>
+ *   <li><b>http.pool.keepalive.ms</b> - Keep-alive used when the server sends no hint (default 30000)</li>
+ *   <li><b>http.pool.idle.evict.ms</b> - Idle connections older than this are closed (default 30000)</li>
+ *   <li><b>http.pool.evict.interval.ms</b> - How often the evictor runs (default 5000)</li>
+ *   <li><b>http.pool.lease.timeout.ms</b> - Max wait for a free connection (default 10000)</li>
+ *   <li><b>timeout.connect.ms</b> / <b>timeout.ms</b> - Connect / read timeouts of requests not issued
+ *       through {@link TimeoutFilter}</li>
+ * </ul>
+ * </p>
+ * <p>
+ * Calls issued through {@link TimeoutFilter} get their own connect, read and lease timeouts (see {@link #beginCall}),
+ * and their connection is shut down by a watchdog once the call's total deadline passes, so a backend
+ * that trickles data cannot hold the caller past its {@link Timeouts#total()}.
+ * </p>
+ */
+@SuppressWarnings("deprecation") // RestAssured 5 still requires the AbstractHttpClient API
+public final class HttpTransport {
+
+    private static final ThreadLocal<Call> CURRENT_CALL = new ThreadLocal<>();
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "bookstore-http-scheduler");
+        t.setDaemon(true);
+        return t;
+    });
+    private static final InstrumentedConnectionManager CONNECTION_MANAGER = createConnectionManager();
+    private static final DefaultHttpClient HTTP_CLIENT = createHttpClient(CONNECTION_MANAGER);
+    private static final RestAssuredConfig CONFIG = RestAssuredConfig.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .reuseHttpClientInstance()
+                    .httpClientFactory(() -> HTTP_CLIENT))
+            .objectMapperConfig(ObjectMapperConfig.objectMapperConfig()
+                    .defaultObjectMapperType(ObjectMapperType.JACKSON_2)
+                    .jackson2ObjectMapperFactory((type, charset) -> Json.MAPPER));
+
+    /** "Bearer &lt;auth.token&gt;", or null when no token is configured. */
+    private static final String AUTHORIZATION = Config.get().find("auth.token").map(token -> "Bearer " + token).orElse(null);
+
+    static {
+        startIdleEvictor(CONNECTION_MANAGER);
+    }
+
+    private HttpTransport() { }
+
+    /**
+     * @return Authorization header value for auth.token, or null if none is configured
+     */
+    static String authorization() {
+        return AUTHORIZATION;
+    }
+
+    /**
+     * @return RestAssured config that routes requests through the shared pooled client.
+     */
+    public static RestAssuredConfig config() {
+        return CONFIG;
+    }
+
+    /**
+     * Applies per-call limits to the requests the current thread sends until the returned call is closed.
+     * @param connectMs     Connect timeout
+     * @param readMs        Socket read timeout
+     * @param deadlineNanos {@link System#nanoTime()} after which the connection is shut down
+     * @return Open call; close it once the response has been received
+     */
+    static Call beginCall(int connectMs, int readMs, long deadlineNanos) {
+        Call call = new Call(connectMs, readMs, deadlineNanos, CURRENT_CALL.get());
+        CURRENT_CALL.set(call);
+        return call;
+    }
+
+    /**
+     * @return Nanoseconds left for the current thread's call, or Long.MAX_VALUE outside of one
+     */
+    static long remainingNanos() {
+        Call call = CURRENT_CALL.get();
+        return call == null ? Long.MAX_VALUE : call.remainingNanos();
+    }
+
+    /**
+     * @return Snapshot of current pool usage and cumulative lease wait times.
+     */
+    public static PoolStats stats() {
+        org.apache.http.pool.PoolStats total = CONNECTION_MANAGER.getTotalStats();
+        return new PoolStats(total.getLeased(), total.getAvailable(), total.getPending(), total.getMax(),
+                CONNECTION_MANAGER.waitCount.sum(), CONNECTION_MANAGER.totalWaitNanos.sum(),
+                CONNECTION_MANAGER.maxWaitNanos.get());
+    }
+
+    // -- Construction --
+
+    private static InstrumentedConnectionManager createConnectionManager() {
+        InstrumentedConnectionManager manager = new InstrumentedConnectionManager();
+        manager.setMaxTotal(Config.get().getPositiveInt("http.pool.max.total", 50));
+        manager.setDefaultMaxPerRoute(Config.get().getPositiveInt("http.pool.max.per.route", 20));
+
+        Config.get().getPositiveIntMap("http.pool.route.limits").forEach((url, max) ->
+                manager.setMaxPerRoute(new HttpRoute(routeHost(url)), max));
+        return manager;
+    }
+
+    private static HttpHost routeHost(String url) {
+        URI uri;
+        try {
+            uri = new URI(url);
+        } catch (URISyntaxException e) {
+            throw new ConfigException("'http.pool.route.limits' entry '" + url + "' is not a valid URL", e);
+        }
+        if (uri.getScheme() == null || uri.getHost() == null) {
+            throw new ConfigException("'http.pool.route.limits' entry '" + url
+                    + "' must be an absolute URL such as https://host:443");
+        }
+        return new HttpHost(uri.getHost(), uri.getPort(), uri.getScheme());
+    }
+
+    private static DefaultHttpClient createHttpClient(PoolingClientConnectionManager manager) {
+        Config config = Config.get();
+        HttpParams params = new CallParams();
+        HttpConnectionParams.setConnectionTimeout(params, millis(config, "timeout.connect.ms", Duration.ofSeconds(5)));
+        HttpConnectionParams.setSoTimeout(params, millis(config, "timeout.ms", Duration.ofSeconds(10)));
+        HttpClientParams.setConnectionManagerTimeout(params, millis(config, "http.pool.lease.timeout.ms", Duration.ofSeconds(10)));
+
+        DefaultHttpClient client = new DefaultHttpClient(manager, params);
+        client.setKeepAliveStrategy(keepAliveStrategy(millis(config, "http.pool.keepalive.ms", Duration.ofSeconds(30))));
+        return client;
+    }
+
+    private static int millis(Config config, String key, Duration defaultValue) {
+        return (int) Math.min(Integer.MAX_VALUE, config.getDuration(key, defaultValue).toMillis());
+    }
+
+    /**
+     * Honours the server's Keep-Alive hint, but never keeps a connection longer than the configured default.
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(long defaultKeepAliveMs) {
+        return (response, context) -> {
+            long serverHint = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverHint > 0 ? Math.min(serverHint, defaultKeepAliveMs) : defaultKeepAliveMs;
+        };
+    }
+
+    private static void startIdleEvictor(PoolingClientConnectionManager manager) {
+        long idleMs = millis(Config.get(), "http.pool.idle.evict.ms", Duration.ofSeconds(30));
+        long intervalMs = Math.max(1, millis(Config.get(), "http.pool.evict.interval.ms", Duration.ofSeconds(5)));
+        SCHEDULER.scheduleWithFixedDelay(() -> {
+            manager.closeExpiredConnections();
+            manager.closeIdleConnections(idleMs, TimeUnit.MILLISECONDS);
+        }, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Pooling connection manager that records how long each lease waited for a connection.
+     */
+    private static final class InstrumentedConnectionManager extends PoolingClientConnectionManager {
+
+        private final LongAdder waitCount = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+
+        InstrumentedConnectionManager() {
+            super(SchemeRegistryFactory.createDefault());
+        }
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ClientConnectionRequest delegate = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                @Override
+                public ManagedClientConnection getConnection(long timeout, TimeUnit unit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    long start = System.nanoTime();
+                    try {
+                        ManagedClientConnection connection = delegate.getConnection(timeout, unit);
+                        Call call = CURRENT_CALL.get();
+                        if (call != null) {
+                            call.watch(connection);
+                        }
+                        return connection;
+                    } finally {
+                        long waited = System.nanoTime() - start;
+                        waitCount.increment();
+                        totalWaitNanos.add(waited);
+                        maxWaitNanos.accumulate(waited);
+                    }
+                }
+
+                @Override
+                public void abortRequest() {
+                    delegate.abortRequest();
+                }
+            };
+        }
+    }
+
+    /**
+     * Client parameters whose connect, read and lease timeouts come from the current thread's {@link Call}, if any.
+     * HttpClient reads them on every request, so one shared client serves calls with different limits.
+     */
+    private static final class CallParams extends BasicHttpParams {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object getParameter(String name) {
+            Call call = CURRENT_CALL.get();
+            if (call != null) {
+                switch (name) {
+                    case CoreConnectionPNames.CONNECTION_TIMEOUT:
+                        return call.connectMs;
+                    case CoreConnectionPNames.SO_TIMEOUT:
+                        return call.readMs;
+                    case ClientPNames.CONN_MANAGER_TIMEOUT:
+                        Object lease = super.getParameter(name);
+                        long remainingMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(call.remainingNanos()));
+                        return lease instanceof Long ? Math.min((Long) lease, remainingMs) : remainingMs;
+                    default:
+                        break;
+                }
+            }
+            return super.getParameter(name);
+        }
+    }
+
+    /**
+     * Limits of one in-flight call. Each connection leased for it is watched and shut down at the deadline.
+     */
+    static final class Call implements AutoCloseable {
+
+        private final int connectMs;
+        private final int readMs;
+        private final long deadlineNanos;
+        private final Call previous;
+        private volatile boolean expired;
+        private ScheduledFuture<?> watchdog;
+
+        private Call(int connectMs, int readMs, long deadlineNanos, Call previous) {
+            this.connectMs = connectMs;
+            this.readMs = readMs;
+            this.deadlineNanos = deadlineNanos;
+            this.previous = previous;
+        }
+
+        long remainingNanos() {
+            return deadlineNanos - System.nanoTime();
+        }
+
+        /** @return true if the watchdog cut the call off */
+        boolean isExpired() {
+            return expired;
+        }
+
+        private void watch(ManagedClientConnection connection) {
+            cancelWatchdog();
+            watchdog = SCHEDULER.schedule(() -> {
+                expired = true;
+                try {
+                    connection.shutdown(); // no-op once the connection went back to the pool
+                } catch (IOException ignored) {
+                    // the in-flight read fails either way
+                }
+            }, Math.max(0, remainingNanos()), TimeUnit.NANOSECONDS);
+        }
+
+        private void cancelWatchdog() {
+            if (watchdog != null) {
+                watchdog.cancel(false);
+                watchdog = null;
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelWatchdog();
+            if (previous == null) {
+                CURRENT_CALL.remove();
+            } else {
+                CURRENT_CALL.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.bookstore.api;
+
+import com.bookstore.model.Author;
+import com.bookstore.model.Book;
+import com.bookstore.model.Json;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.MappingIterator;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+/**
+ * Reads a JSON array response (GET /Books, GET /Authors) one element at a time.
+ * <p>
+ * Unlike {@code response.jsonPath().getList("$")}, which materializes the whole array as an
+ * object graph, only the current element is held in memory. Counting and field checks therefore
+ * run in constant memory; the uniqueness check in {@link #summarize} also keeps the IDs seen so
+ * far, so it needs O(distinct IDs) memory.
+ * </p>
+ * <p>
+ * Readers must be closed; they are single-pass and not thread-safe.
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   try (JsonArrayReader&lt;Book&gt; books = JsonArrayReader.books(BooksClient.getAllBooks())) {
+ *       ListSummary summary = books.summarize(Book::getId, JsonArrayReader::isValidBook);
+ *       assertThat(summary.getDuplicates(), is(0L));
+ *   }
+ * </code>
+ * </p>
+ *
+ * @param <T> Element type
+ */
+public final class JsonArrayReader<T> implements Iterator<T>, AutoCloseable {
+
+    private final JsonParser parser;
+    private final MappingIterator<T> elements;
+
+    private JsonArrayReader(InputStream body, Class<T> type) {
+        try {
+            this.parser = Json.MAPPER.getFactory().createParser(body);
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                parser.close();
+                throw new IllegalArgumentException("Expected a JSON array but found " + parser.currentToken());
+            }
+            parser.clearCurrentToken(); // let the iterator step into the array
+            this.elements = Json.MAPPER.readerFor(type).readValues(parser);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open JSON array", e);
+        }
+    }
+
+    /**
+     * @param body JSON array of elements; closed together with the reader
+     * @param type Element type
+     * @return Reader positioned before the first element
+     * @throws IllegalArgumentException if the body is not a JSON array
+     */
+    public static <T> JsonArrayReader<T> of(InputStream body, Class<T> type) {
+        return new JsonArrayReader<>(body, type);
+    }
+
+    /** Streams the books of a GET /Books response. */
+    public static JsonArrayReader<Book> books(Response response) {
+        return of(response.asInputStream(), Book.class);
+    }
+
+    /** Streams the authors of a GET /Authors response. */
+    public static JsonArrayReader<Author> authors(Response response) {
+        return of(response.asInputStream(), Author.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return elements.hasNextValue();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON array", e);
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return elements.nextValue();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read JSON array element", e);
+        }
+    }
+
+    /**
+     * Consumes the remaining elements and returns their count.
+     */
+    public long count() {
+        long count = 0;
+        while (hasNext()) {
+            next();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Consumes the remaining elements, tracking count, duplicate IDs and invalid elements.
+     * Only the IDs seen so far are retained (a hash set, so memory grows with the number of distinct IDs).
+     * @param id    Extracts the element ID
+     * @param valid Field-level validity check
+     * @return Aggregated result
+     */
+    public ListSummary summarize(ToIntFunction<? super T> id, Predicate<? super T> valid) {
+        ListSummary summary = new ListSummary();
+        while (hasNext()) {
+            T element = next();
+            summary.add(id.applyAsInt(element), valid.test(element));
+        }
+        return summary;
+    }
+
+    @Override
+    public void close() {
+        try {
+            elements.close();
+            parser.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close JSON array", e);
+        }
+    }
+
+    // -- Field checks --
+
+    /**
+     * @return true if the book has a positive ID and a non-blank title. Page counts are not checked:
+     *         the API accepts any integer there (see the boundary rows of DataGenerator.BookVariant).
+     */
+    public static boolean isValidBook(Book book) {
+        return book.getId() > 0 && book.getTitle() != null && !book.getTitle().isBlank();
+    }
+
+    /** @return true if the author has a positive ID */
+    public static boolean isValidAuthor(Author author) {
+        return author.getId() > 0;
+    }
+}
@@ -0,0 +1,47 @@
+package com.bookstore.api;
+
+import com.bookstore.metrics.LatencyCapture;
+import com.bookstore.metrics.LatencyMetrics;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Records the latency of every client call into {@link LatencyMetrics}, keyed by endpoint and status,
+ * and into the current thread's {@link LatencyCapture}, if one is active.
+ * <p>
+ * Runs last in the filter chain, right before the request goes on the wire, so the value is the
+ * HTTP round trip only (not logging or report rendering). Failed calls are recorded under
+ * {@link LatencyMetrics#NO_RESPONSE} and the exception is rethrown. {@link Retry} attempts are recorded
+ * apart from first attempts.
+ * </p>
+ */
+public class LatencyFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Endpoint endpoint = Endpoint.resolve(requestSpec.getMethod(), requestSpec.getBasePath(), requestSpec.getUserDefinedPath());
+        boolean retry = Retry.isRetry();
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            long elapsed = System.nanoTime() - start;
+            LatencyMetrics.record(endpoint, response.statusCode(), elapsed, retry);
+            LatencyCapture.record(elapsed);
+            return response;
+        } catch (Exception e) { // RestAssured rethrows checked I/O exceptions unwrapped
+            long elapsed = System.nanoTime() - start;
+            LatencyMetrics.record(endpoint, LatencyMetrics.NO_RESPONSE, elapsed, retry);
+            LatencyCapture.record(elapsed);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE;
+    }
+}
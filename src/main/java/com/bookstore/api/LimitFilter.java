@@ -0,0 +1,64 @@
+package com.bookstore.api;
+
+import com.bookstore.limit.EndpointLimiter;
+import com.bookstore.limit.Limits;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds each client call until its endpoint's rate and concurrency limits admit it (see {@link Limits}).
+ * <p>
+ * Runs right before {@link LatencyFilter} (after {@link CircuitBreakerFilter}), so cache hits, cassette replays
+ * and calls rejected by an open breaker are not limited, and the recorded latency excludes the queueing
+ * delay (which the limiter records on its own). The wait is
+ * bounded by the call's remaining {@link Timeouts#total()} / {@link Deadline}; a call that cannot get a
+ * permit in time fails with {@link DeadlineExceededException}.
+ * </p>
+ */
+public class LimitFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!Limits.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Endpoint endpoint = Endpoint.resolve(requestSpec.getMethod(), requestSpec.getBasePath(), requestSpec.getUserDefinedPath());
+        EndpointLimiter limiter = Limits.of(endpoint);
+        if (limiter == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        long maxWaitNanos = HttpTransport.remainingNanos();
+        EndpointLimiter.Permit permit;
+        try {
+            permit = limiter.acquire(maxWaitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a permit for " + endpoint.label(), e);
+        }
+        if (permit == null) {
+            throw new DeadlineExceededException("No permit for " + endpoint.label() + " within "
+                    + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos) + "ms (client-side limit, see limit.* settings)");
+        }
+        long start = System.nanoTime();
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            permit.release(response.statusCode(), System.nanoTime() - start);
+            return response;
+        } catch (Exception e) { // RestAssured rethrows checked I/O exceptions unwrapped
+            permit.release(0, System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 1;
+    }
+}
@@ -0,0 +1,62 @@
+package com.bookstore.api;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Count, duplicate and validity totals of a streamed list, built by {@link JsonArrayReader#summarize}.
+ * Keeps at most {@value #MAX_EXAMPLES} example IDs per problem for failure messages; duplicate detection
+ * holds one entry per distinct ID, however large the IDs are.
+ */
+public final class ListSummary {
+
+    static final int MAX_EXAMPLES = 10;
+
+    private final Set<Integer> seen = new HashSet<>();
+    private final List<Integer> duplicateIds = new ArrayList<>();
+    private final List<Integer> invalidIds = new ArrayList<>();
+    private long count;
+    private long duplicates;
+    private long invalid;
+
+    void add(int id, boolean valid) {
+        count++;
+        if (!seen.add(id)) {
+            duplicates++;
+            addExample(duplicateIds, id);
+        }
+        if (!valid) {
+            invalid++;
+            addExample(invalidIds, id);
+        }
+    }
+
+    private static void addExample(List<Integer> examples, int id) {
+        if (examples.size() < MAX_EXAMPLES) {
+            examples.add(id);
+        }
+    }
+
+    /** @return Number of elements read */
+    public long getCount() { return count; }
+
+    /** @return Number of elements whose ID was already seen */
+    public long getDuplicates() { return duplicates; }
+
+    /** @return Number of elements that failed the validity check */
+    public long getInvalid() { return invalid; }
+
+    /** @return Up to {@value #MAX_EXAMPLES} duplicate IDs */
+    public List<Integer> getDuplicateIds() { return duplicateIds; }
+
+    /** @return Up to {@value #MAX_EXAMPLES} IDs of invalid elements */
+    public List<Integer> getInvalidIds() { return invalidIds; }
+
+    @Override
+    public String toString() {
+        return "ListSummary{count=" + count + ", duplicates=" + duplicates + " " + duplicateIds
+                + ", invalid=" + invalid + " " + invalidIds + "}";
+    }
+}
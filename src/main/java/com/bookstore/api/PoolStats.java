@@ -0,0 +1,64 @@
+package com.bookstore.api;
+
+import java.util.Locale;
+
+/**
+ * Point-in-time snapshot of the shared HTTP connection pool.
+ * <p>
+ * Returned by {@link HttpTransport#stats()}. Connection counts come straight from the pool;
+ * wait figures are cumulative since the transport was created and show how long callers
+ * queued for a free connection (i.e. where requests are waiting on the pool rather than the server).
+ * </p>
+ */
+public class PoolStats {
+
+    private final int leased;
+    private final int idle;
+    private final int pending;
+    private final int maxTotal;
+    private final long waitCount;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+
+    public PoolStats(int leased, int idle, int pending, int maxTotal,
+                     long waitCount, long totalWaitNanos, long maxWaitNanos) {
+        this.leased = leased;
+        this.idle = idle;
+        this.pending = pending;
+        this.maxTotal = maxTotal;
+        this.waitCount = waitCount;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    /** @return Connections currently handed out to in-flight requests */
+    public int getLeased() { return leased; }
+
+    /** @return Open keep-alive connections sitting idle in the pool */
+    public int getIdle() { return idle; }
+
+    /** @return Requests currently blocked waiting for a connection */
+    public int getPending() { return pending; }
+
+    /** @return Configured upper bound of pooled connections */
+    public int getMaxTotal() { return maxTotal; }
+
+    /** @return Number of connection leases served so far */
+    public long getWaitCount() { return waitCount; }
+
+    /** @return Total time spent waiting for connection leases, in milliseconds */
+    public double getTotalWaitMillis() { return totalWaitNanos / 1_000_000.0; }
+
+    /** @return Average time a lease waited for a connection, in milliseconds */
+    public double getAvgWaitMillis() { return waitCount == 0 ? 0 : getTotalWaitMillis() / waitCount; }
+
+    /** @return Longest single wait for a connection, in milliseconds */
+    public double getMaxWaitMillis() { return maxWaitNanos / 1_000_000.0; }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "PoolStats[leased=%d, idle=%d, pending=%d, max=%d, leases=%d, avgWait=%.3fms, maxWait=%.3fms]",
+                leased, idle, pending, maxTotal, waitCount, getAvgWaitMillis(), getMaxWaitMillis());
+    }
+}
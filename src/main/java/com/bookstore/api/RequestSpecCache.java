@@ -0,0 +1,79 @@
+package com.bookstore.api;
+
+import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.http.ContentType;
+import io.restassured.specification.RequestSpecification;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of prebuilt RestAssured request specifications, one per resource and environment.
+ * <p>
+ * Every client call used to rebuild the same chain (Allure filter, JSON content type, logging,
+ * base path). Specs are now built once and shared, together with the shared filters
+ * ({@link ContractFilter}, {@link TimeoutFilter}, {@link AllureReportFilter}, {@link HttpLogFilter}, {@link ResponseCacheFilter}, {@link CassetteFilter},
+ * {@link CircuitBreakerFilter}, {@link LimitFilter}, {@link LatencyFilter}); RestAssured copies them into a fresh request on {@code given(spec)},
+ * so the cached instances are never mutated by callers. When auth.token is set, specs also carry
+ * its Authorization header.
+ * </p>
+ * <p>
+ * <b>Key:</b> {@link Resource} + current {@code RestAssured.baseURI}.
+ * A different environment simply gets its own entry.
+ * </p>
+ */
+public final class RequestSpecCache {
+
+    private static final ContractFilter CONTRACT_FILTER = new ContractFilter();
+    private static final TimeoutFilter TIMEOUT_FILTER = new TimeoutFilter();
+    private static final AllureReportFilter REPORT_FILTER = new AllureReportFilter();
+    private static final HttpLogFilter LOG_FILTER = new HttpLogFilter();
+    private static final ResponseCacheFilter CACHE_FILTER = new ResponseCacheFilter();
+    private static final CassetteFilter CASSETTE_FILTER = new CassetteFilter();
+    private static final CircuitBreakerFilter BREAKER_FILTER = new CircuitBreakerFilter();
+    private static final LimitFilter LIMIT_FILTER = new LimitFilter();
+    private static final LatencyFilter LATENCY_FILTER = new LatencyFilter();
+    private static final Map<SpecKey, RequestSpecification> SPECS = new ConcurrentHashMap<>();
+
+    private RequestSpecCache() { }
+
+    /**
+     * Returns the shared spec for a resource in the current environment.
+     * Use with {@code given(spec)}; do not modify the returned instance.
+     * @param resource API resource (Books or Authors)
+     * @return Prebuilt request specification
+     */
+    public static RequestSpecification get(Resource resource) {
+        SpecKey key = new SpecKey(resource, RestAssured.baseURI);
+        return SPECS.computeIfAbsent(key, RequestSpecCache::build);
+    }
+
+    /** Drops all cached specs (e.g. after switching environments at runtime). */
+    public static void clear() {
+        SPECS.clear();
+    }
+
+    private static RequestSpecification build(SpecKey key) {
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setConfig(HttpTransport.config())
+                .setBaseUri(key.baseUri())
+                .setBasePath(key.resource().basePath())
+                .setContentType(ContentType.JSON)
+                .addFilter(CONTRACT_FILTER)
+                .addFilter(TIMEOUT_FILTER)
+                .addFilter(REPORT_FILTER)
+                .addFilter(LOG_FILTER)
+                .addFilter(CACHE_FILTER)
+                .addFilter(CASSETTE_FILTER)
+                .addFilter(BREAKER_FILTER)
+                .addFilter(LIMIT_FILTER)
+                .addFilter(LATENCY_FILTER);
+        if (HttpTransport.authorization() != null) {
+            builder.addHeader("Authorization", HttpTransport.authorization());
+        }
+        return builder.build();
+    }
+
+    private record SpecKey(Resource resource, String baseUri) { }
+}
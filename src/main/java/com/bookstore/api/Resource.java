@@ -0,0 +1,20 @@
+package com.bookstore.api;
+
+/**
+ * REST resources exposed by the Bookstore API, with their base paths.
+ */
+public enum Resource {
+    BOOKS("/api/v1/Books"),
+    AUTHORS("/api/v1/Authors");
+
+    private final String basePath;
+
+    Resource(String basePath) {
+        this.basePath = basePath;
+    }
+
+    /** @return Base path of the resource, e.g. "/api/v1/Books" */
+    public String basePath() {
+        return basePath;
+    }
+}
@@ -0,0 +1,148 @@
+package com.bookstore.api;
+
+import com.bookstore.utils.Config;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Optional client-side cache for {@code GET /Books/{id}} and {@code GET /Authors/{id}}, used by
+ * {@link ResponseCacheFilter}.
+ * <p>
+ * Only 200 responses are stored, keyed by full request URI. Entries are bounded by count (least
+ * recently used goes first) and by age. An expired entry that carried an {@code ETag} is not dropped
+ * but revalidated with {@code If-None-Match}; a 304 makes it fresh again without transferring the body.
+ * PUT and DELETE of the same URI through the clients invalidate the entry.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>cache.enabled</b> - Turn the cache on (default false)</li>
+ *   <li><b>cache.max.entries</b> - Max cached responses (default 1000)</li>
+ *   <li><b>cache.ttl.ms</b> - Time an entry is served without asking the server (default 30000)</li>
+ * </ul>
+ * </p>
+ */
+public final class ResponseCache {
+
+    private static final boolean ENABLED = Config.get().getBoolean("cache.enabled", false);
+    private static final int MAX_ENTRIES = Config.get().getPositiveInt("cache.max.entries", 1000);
+    private static final long TTL_NANOS = Config.get().getDuration("cache.ttl.ms", Duration.ofSeconds(30)).toNanos();
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder REVALIDATIONS = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+    private static final LongAdder INVALIDATIONS = new LongAdder();
+
+    /** Access-ordered, so iteration order is least recently used first. Guarded by itself. */
+    private static final Map<String, Entry> ENTRIES = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            if (size() > MAX_ENTRIES) {
+                EVICTIONS.increment();
+                return true;
+            }
+            return false;
+        }
+    };
+
+    private ResponseCache() { }
+
+    /** @return true if the cache is enabled (cache.enabled) */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /** @return Current counters and size */
+    public static CacheStats stats() {
+        int size;
+        synchronized (ENTRIES) {
+            size = ENTRIES.size();
+        }
+        return new CacheStats(HITS.sum(), MISSES.sum(), REVALIDATIONS.sum(), EVICTIONS.sum(), INVALIDATIONS.sum(), size);
+    }
+
+    /** Drops all entries and resets the counters. */
+    public static void clear() {
+        synchronized (ENTRIES) {
+            ENTRIES.clear();
+        }
+        HITS.reset();
+        MISSES.reset();
+        REVALIDATIONS.reset();
+        EVICTIONS.reset();
+        INVALIDATIONS.reset();
+    }
+
+    // -- Used by ResponseCacheFilter --
+
+    /**
+     * @return The entry if it is fresh or can be revalidated; expired entries without an ETag are evicted
+     */
+    static Entry lookup(String uri) {
+        synchronized (ENTRIES) {
+            Entry entry = ENTRIES.get(uri);
+            if (entry == null || entry.isFresh() || entry.etag() != null) {
+                return entry;
+            }
+            ENTRIES.remove(uri);
+        }
+        EVICTIONS.increment();
+        return null;
+    }
+
+    static Response hit(Entry entry) {
+        HITS.increment();
+        return entry.toResponse();
+    }
+
+    static Response revalidated(String uri, Entry entry) {
+        REVALIDATIONS.increment();
+        Entry refreshed = new Entry(entry.status(), entry.headers(), entry.body(), entry.etag(), System.nanoTime());
+        synchronized (ENTRIES) {
+            ENTRIES.put(uri, refreshed);
+        }
+        return refreshed.toResponse();
+    }
+
+    static void miss(String uri, Response response) {
+        MISSES.increment();
+        if (response.statusCode() != 200) {
+            remove(uri);
+            return;
+        }
+        Entry entry = new Entry(200, Responses.headerLines(response), response.asByteArray(),
+                response.getHeader("ETag"), System.nanoTime());
+        synchronized (ENTRIES) {
+            ENTRIES.put(uri, entry);
+        }
+    }
+
+    static void invalidate(String uri) {
+        if (remove(uri)) {
+            INVALIDATIONS.increment();
+        }
+    }
+
+    private static boolean remove(String uri) {
+        synchronized (ENTRIES) {
+            return ENTRIES.remove(uri) != null;
+        }
+    }
+
+    record Entry(int status, List<String> headers, byte[] body, String etag, long storedAt) {
+
+        boolean isFresh() {
+            return System.nanoTime() - storedAt < TTL_NANOS;
+        }
+
+        Response toResponse() {
+            return Responses.of(status, headers, body);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.bookstore.api;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Read-through {@link ResponseCache} for GET-by-ID calls, with invalidation on PUT/DELETE.
+ * <p>
+ * Sits outside {@link CassetteFilter} and {@link LatencyFilter}, so a cache hit neither touches
+ * the network nor counts as a latency sample; logging and Allure reporting still see it.
+ * Does nothing unless cache.enabled=true.
+ * </p>
+ */
+public class ResponseCacheFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        if (!ResponseCache.isEnabled()) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        Endpoint endpoint = Endpoint.resolve(requestSpec.getMethod(), requestSpec.getBasePath(), requestSpec.getUserDefinedPath());
+        String uri = requestSpec.getURI();
+        switch (endpoint) {
+            case BOOKS_GET:
+            case AUTHORS_GET:
+                return readThrough(uri, requestSpec, responseSpec, ctx);
+            case BOOKS_UPDATE:
+            case BOOKS_DELETE:
+            case AUTHORS_UPDATE:
+            case AUTHORS_DELETE:
+                // Before, so no one is served the old entry during the call; after, in case a
+                // concurrent GET re-filled it with the old state.
+                ResponseCache.invalidate(uri);
+                try {
+                    return ctx.next(requestSpec, responseSpec);
+                } finally {
+                    ResponseCache.invalidate(uri);
+                }
+            default:
+                return ctx.next(requestSpec, responseSpec);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 4;
+    }
+
+    private static Response readThrough(String uri, FilterableRequestSpecification requestSpec,
+                                        FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        ResponseCache.Entry cached = ResponseCache.lookup(uri);
+        if (cached != null && cached.isFresh()) {
+            return ResponseCache.hit(cached);
+        }
+        if (cached != null) {
+            requestSpec.header("If-None-Match", cached.etag());
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (cached != null && response.statusCode() == 304) {
+            return ResponseCache.revalidated(uri, cached);
+        }
+        ResponseCache.miss(uri, response);
+        return response;
+    }
+}
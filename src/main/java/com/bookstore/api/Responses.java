@@ -0,0 +1,77 @@
+package com.bookstore.api;
+
+import com.bookstore.model.Json;
+import com.fasterxml.jackson.databind.JavaType;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds RestAssured responses that did not come from the network (cassette replays, cache hits),
+ * and decodes responses for the typed client methods.
+ */
+final class Responses {
+
+    private Responses() { }
+
+    /**
+     * @param status  Status code
+     * @param headers Headers as "Name: value" lines
+     * @param body    Body bytes
+     * @return Response usable like a real one (status line, headers, content type, body)
+     */
+    static Response of(int status, List<String> headers, byte[] body) {
+        List<Header> parsed = new ArrayList<>(headers.size());
+        String contentType = null;
+        for (String line : headers) {
+            int colon = line.indexOf(':');
+            Header header = new Header(line.substring(0, colon), line.substring(colon + 1).trim());
+            parsed.add(header);
+            if ("Content-Type".equalsIgnoreCase(header.getName())) {
+                contentType = header.getValue();
+            }
+        }
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine("HTTP/1.1 " + status)
+                .setHeaders(new Headers(parsed))
+                .setBody(body);
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return Headers of a response as "Name: value" lines
+     */
+    static List<String> headerLines(Response response) {
+        List<String> lines = new ArrayList<>();
+        for (Header header : response.getHeaders()) {
+            lines.add(header.getName() + ": " + header.getValue());
+        }
+        return lines;
+    }
+
+    /**
+     * Decodes a 2xx response body with the shared {@link Json#MAPPER}, in one pass over the raw bytes.
+     * @param response Response to decode
+     * @param request  Request description for the error message, e.g. "GET /Books/1"
+     * @param type     Target type
+     * @return Decoded value
+     * @throws ApiResponseException for any non-2xx status
+     */
+    static <T> T decode(Response response, String request, JavaType type) {
+        int status = response.statusCode();
+        if (status < 200 || status >= 300) {
+            int space = request.indexOf(' ');
+            throw new ApiResponseException(request.substring(0, space), request.substring(space + 1),
+                    status, response.asString());
+        }
+        return Json.read(response.asByteArray(), type);
+    }
+}
@@ -0,0 +1,179 @@
+package com.bookstore.api;
+
+import com.bookstore.utils.Config;
+import io.qameta.allure.Allure;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Retries idempotent client calls (GET, PUT, DELETE) that failed transiently: a configured 5xx status
+ * such as 502/503, or an I/O error such as a connection reset.
+ * <p>
+ * Attempts are spaced by exponential backoff with full jitter (a random delay between 0 and
+ * {@code base * 2^(attempt-1)}, capped), never sleep past the current {@link Deadline}, and are
+ * limited by a process-wide retry budget: every transient failure takes a token, every other outcome
+ * returns {@code retry.budget.rate} of one, and retries stop while fewer than half the tokens are left.
+ * A struggling backend therefore sees at most a small, bounded share of extra traffic, not a retry storm.
+ * </p>
+ * <p>
+ * Every attempt goes through the full filter chain. Retry attempts are recorded under their own
+ * rows in {@code LatencyMetrics} (see {@link #isRetry()}) and, inside a test, as Allure steps that hold
+ * their HTTP attachments.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>retry.enabled</b> - Turns retries on/off (default true)</li>
+ *   <li><b>retry.max.attempts</b> - Attempts per call, including the first (default 3)</li>
+ *   <li><b>retry.backoff.base.ms</b> / <b>retry.backoff.max.ms</b> - Backoff base and cap (default 100 / 2000)</li>
+ *   <li><b>retry.statuses</b> - Statuses treated as transient (default 502,503,504)</li>
+ *   <li><b>retry.budget.size</b> - Tokens in the retry budget (default 100)</li>
+ *   <li><b>retry.budget.rate</b> - Tokens returned per non-transient outcome, 0..1 (default 0.1)</li>
+ * </ul>
+ * </p>
+ */
+public final class Retry {
+
+    private static final long TOKEN = 1000; // budget is kept in thousandths of a token
+
+    private static final boolean ENABLED;
+    private static final int MAX_ATTEMPTS;
+    private static final long BACKOFF_BASE_MS;
+    private static final long BACKOFF_MAX_MS;
+    private static final Set<Integer> STATUSES = new HashSet<>();
+    private static final long BUDGET_MAX;
+    private static final long BUDGET_REFILL;
+
+    static {
+        Config config = Config.get();
+        ENABLED = config.getBoolean("retry.enabled", true);
+        MAX_ATTEMPTS = config.getPositiveInt("retry.max.attempts", 3);
+        BACKOFF_BASE_MS = config.getDuration("retry.backoff.base.ms", Duration.ofMillis(100)).toMillis();
+        BACKOFF_MAX_MS = config.getDuration("retry.backoff.max.ms", Duration.ofSeconds(2)).toMillis();
+        STATUSES.addAll(config.getIntList("retry.statuses", List.of(502, 503, 504), 100, 599));
+        BUDGET_MAX = config.getPositiveInt("retry.budget.size", 100) * TOKEN;
+        BUDGET_REFILL = Math.round(config.getDouble("retry.budget.rate", 0.1) * TOKEN);
+    }
+
+    private static final ThreadLocal<Integer> ATTEMPT = new ThreadLocal<>();
+    private static final AtomicLong BUDGET = new AtomicLong(BUDGET_MAX);
+    private static final LongAdder RETRIES = new LongAdder();
+    private static final LongAdder RECOVERED = new LongAdder();
+    private static final LongAdder EXHAUSTED = new LongAdder();
+    private static final LongAdder BUDGET_REJECTED = new LongAdder();
+
+    private Retry() { }
+
+    /**
+     * Runs an idempotent call, retrying transient failures.
+     * POST endpoints are never retried (a lost response may still have created the record).
+     * @param endpoint Endpoint the call targets
+     * @param call     Sends the request once
+     * @return Response of the last attempt
+     */
+    public static Response call(Endpoint endpoint, Supplier<Response> call) {
+        if (!ENABLED || MAX_ATTEMPTS == 1 || "POST".equals(endpoint.method())) {
+            return call.get();
+        }
+        for (int attempt = 1; ; attempt++) {
+            Response response;
+            try {
+                response = attempt == 1 ? call.get() : retry(endpoint, attempt, call);
+            } catch (Exception e) { // RestAssured rethrows checked I/O exceptions unwrapped
+                if (!(e instanceof IOException) || !backOff(attempt)) {
+                    throw e;
+                }
+                continue;
+            }
+            if (!STATUSES.contains(response.statusCode())) {
+                refill();
+                if (attempt > 1) {
+                    RECOVERED.increment();
+                }
+                return response;
+            }
+            if (!backOff(attempt)) {
+                return response;
+            }
+            response.asByteArray(); // drain, so the connection goes back to the pool
+        }
+    }
+
+    /**
+     * @return true while the current thread is sending a retry (second or later attempt)
+     */
+    public static boolean isRetry() {
+        return ATTEMPT.get() != null;
+    }
+
+    /**
+     * @return Counters since startup and the current budget
+     */
+    public static RetryStats stats() {
+        return new RetryStats(RETRIES.sum(), RECOVERED.sum(), EXHAUSTED.sum(), BUDGET_REJECTED.sum(),
+                (double) BUDGET.get() / TOKEN);
+    }
+
+    private static Response retry(Endpoint endpoint, int attempt, Supplier<Response> call) {
+        RETRIES.increment();
+        ATTEMPT.set(attempt);
+        try {
+            if (Allure.getLifecycle().getCurrentTestCase().isEmpty()) {
+                return call.get();
+            }
+            String name = "Retry " + attempt + "/" + MAX_ATTEMPTS + ": " + endpoint.label();
+            return Allure.step(name, step -> {
+                Response response = call.get();
+                step.name(name + " -> " + response.statusCode());
+                return response;
+            });
+        } finally {
+            ATTEMPT.remove();
+        }
+    }
+
+    /**
+     * Records a transient failure and sleeps before the next attempt.
+     * @return false if no further attempt should be made
+     */
+    private static boolean backOff(int attempt) {
+        BUDGET.getAndUpdate(tokens -> Math.max(0, tokens - TOKEN));
+        if (attempt >= MAX_ATTEMPTS) {
+            EXHAUSTED.increment();
+            return false;
+        }
+        if (BUDGET.get() <= BUDGET_MAX / 2) {
+            BUDGET_REJECTED.increment();
+            return false;
+        }
+        long capMs = Math.min(BACKOFF_MAX_MS, BACKOFF_BASE_MS << Math.min(attempt - 1, 30));
+        long delayMs = ThreadLocalRandom.current().nextLong(capMs + 1);
+        Deadline deadline = Deadline.current();
+        if (deadline != null && TimeUnit.MILLISECONDS.toNanos(delayMs) >= deadline.remainingNanos()) {
+            return false;
+        }
+        try {
+            Thread.sleep(delayMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void refill() {
+        if (BUDGET.get() < BUDGET_MAX) {
+            BUDGET.getAndUpdate(tokens -> Math.min(BUDGET_MAX, tokens + BUDGET_REFILL));
+        }
+    }
+}
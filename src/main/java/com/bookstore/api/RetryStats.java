@@ -0,0 +1,22 @@
+package com.bookstore.api;
+
+import java.util.Locale;
+
+/**
+ * Point-in-time snapshot of {@link Retry} activity.
+ * Counters are cumulative since startup.
+ *
+ * @param retries        Retry attempts sent
+ * @param recovered      Calls that succeeded on a retry
+ * @param exhausted      Calls still failing after the last attempt
+ * @param budgetRejected Retries skipped because the retry budget was spent
+ * @param budgetTokens   Tokens currently left in the budget
+ */
+public record RetryStats(long retries, long recovered, long exhausted, long budgetRejected, double budgetTokens) {
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "RetryStats[retries=%d, recovered=%d, exhausted=%d, budgetRejected=%d, budget=%.1f]",
+                retries, recovered, exhausted, budgetRejected, budgetTokens);
+    }
+}
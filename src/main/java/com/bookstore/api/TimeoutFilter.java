@@ -0,0 +1,50 @@
+package com.bookstore.api;
+
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.OrderedFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enforces the per-endpoint {@link Timeouts} and the current thread's {@link Deadline} on every client call.
+ * <p>
+ * Runs outside every filter but {@link ContractFilter}. It computes the call's budget (total timeout, cut to the remaining
+ * deadline), fails fast with {@link DeadlineExceededException} if nothing is left, and otherwise hands
+ * connect/read limits and the absolute deadline to {@link HttpTransport} for the duration of the call.
+ * A call cut off by the deadline surfaces as {@link DeadlineExceededException} with the socket error as cause.
+ * </p>
+ */
+public class TimeoutFilter implements OrderedFilter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec, FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Endpoint endpoint = Endpoint.resolve(requestSpec.getMethod(), requestSpec.getBasePath(), requestSpec.getUserDefinedPath());
+        Timeouts timeouts = Timeouts.of(endpoint);
+        long budgetNanos = Timeouts.budgetNanos(endpoint);
+        long budgetMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(budgetNanos));
+
+        try (HttpTransport.Call call = HttpTransport.beginCall(
+                (int) Math.min(timeouts.connect().toMillis(), budgetMs),
+                (int) Math.min(timeouts.read().toMillis(), budgetMs),
+                System.nanoTime() + budgetNanos)) {
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } catch (Exception e) { // RestAssured rethrows checked I/O exceptions unwrapped
+                if (call.isExpired()) {
+                    throw new DeadlineExceededException(endpoint.label() + " " + requestSpec.getURI()
+                            + " did not complete within " + budgetMs + "ms", e);
+                }
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return LOWEST_PRECEDENCE - 7;
+    }
+}
@@ -0,0 +1,74 @@
+package com.bookstore.api;
+
+import com.bookstore.utils.Config;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Connect, read and total timeouts of one {@link Endpoint}.
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>timeout.connect.ms</b> - Max time to open a connection (default 5000)</li>
+ *   <li><b>timeout.ms</b> - Max time without data while waiting for / reading the response (default 10000)</li>
+ *   <li><b>timeout.total.ms</b> - Max time for the whole call, including waiting for a pooled
+ *       connection (default 30000)</li>
+ *   <li><b>timeout.&lt;endpoint&gt;.connect.ms / .read.ms / .total.ms</b> - Per-endpoint overrides, where
+ *       &lt;endpoint&gt; is the {@link Endpoint} name in lower case with dots, e.g. timeout.books.list.read.ms</li>
+ * </ul>
+ * </p>
+ *
+ * @param connect Connect timeout
+ * @param read    Socket read timeout
+ * @param total   Total time for the call
+ */
+public record Timeouts(Duration connect, Duration read, Duration total) {
+
+    private static final Map<Endpoint, Timeouts> BY_ENDPOINT = load();
+
+    /**
+     * @return Timeouts configured for the endpoint
+     */
+    public static Timeouts of(Endpoint endpoint) {
+        return BY_ENDPOINT.get(endpoint);
+    }
+
+    /**
+     * Time the next call to the endpoint may take: its total timeout, cut to what is left of the
+     * current thread's {@link Deadline}, if one is open.
+     * @return Remaining budget in nanoseconds
+     * @throws DeadlineExceededException if the deadline has already expired
+     */
+    static long budgetNanos(Endpoint endpoint) {
+        long budget = of(endpoint).total().toNanos();
+        Deadline deadline = Deadline.current();
+        if (deadline != null) {
+            long remaining = deadline.remainingNanos();
+            if (remaining <= 0) {
+                throw new DeadlineExceededException("Deadline of " + deadline.budget().toMillis() + "ms expired before "
+                        + endpoint.label());
+            }
+            budget = Math.min(budget, remaining);
+        }
+        return budget;
+    }
+
+    private static Map<Endpoint, Timeouts> load() {
+        Config config = Config.get();
+        Duration connect = config.getDuration("timeout.connect.ms", Duration.ofSeconds(5));
+        Duration read = config.getDuration("timeout.ms", Duration.ofSeconds(10));
+        Duration total = config.getDuration("timeout.total.ms", Duration.ofSeconds(30));
+        Map<Endpoint, Timeouts> timeouts = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            String prefix = "timeout." + endpoint.name().toLowerCase(Locale.ROOT).replace('_', '.') + ".";
+            timeouts.put(endpoint, new Timeouts(
+                    config.getDuration(prefix + "connect.ms", connect),
+                    config.getDuration(prefix + "read.ms", read),
+                    config.getDuration(prefix + "total.ms", total)));
+        }
+        return timeouts;
+    }
+}
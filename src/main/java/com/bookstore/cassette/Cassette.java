@@ -0,0 +1,60 @@
+package com.bookstore.cassette;
+
+import com.bookstore.utils.Config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Run-wide cassette selected by configuration, used by {@code CassetteFilter}.
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>cassette.mode</b> - OFF, RECORD or REPLAY (default OFF)</li>
+ *   <li><b>cassette.file</b> - Cassette path (default cassettes/bookstore.cassette)</li>
+ * </ul>
+ * A recording is finished (index written) when the JVM exits.
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   mvn test -Pstub -Dcassette.mode=record     (record once against the stub or a real environment)
+ *   mvn test -Dcassette.mode=replay            (replay with no network)
+ * </code>
+ * </p>
+ */
+public final class Cassette {
+
+    private static final CassetteMode MODE = Config.get().getEnum("cassette.mode", CassetteMode.class, CassetteMode.OFF);
+    private static final Path FILE = Paths.get(Config.get().getString("cassette.file", "cassettes/bookstore.cassette"));
+
+    private Cassette() { }
+
+    /** @return Configured mode */
+    public static CassetteMode mode() {
+        return MODE;
+    }
+
+    /** @return Writer for RECORD mode */
+    public static CassetteWriter writer() {
+        return WriterHolder.WRITER;
+    }
+
+    /** @return Reader for REPLAY mode */
+    public static CassetteReader reader() {
+        return ReaderHolder.READER;
+    }
+
+    private static final class WriterHolder {
+        static final CassetteWriter WRITER = new CassetteWriter(FILE);
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(WRITER::close, "cassette-close"));
+        }
+    }
+
+    private static final class ReaderHolder {
+        static final CassetteReader READER = new CassetteReader(FILE);
+    }
+}
@@ -0,0 +1,64 @@
+package com.bookstore.cassette;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Builds the match key of an interaction: method, path (with query) and normalized body.
+ * <p>
+ * The host is not part of the key, so a cassette recorded against one environment replays against any.
+ * JSON bodies are normalized by sorting object keys and dropping insignificant whitespace, so
+ * {@code {"b":1, "a":2}} and {@code {"a":2,"b":1}} match. Other bodies are only trimmed.
+ * </p>
+ */
+public final class CassetteKey {
+
+    private static final ObjectMapper CANONICAL = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    private CassetteKey() { }
+
+    /**
+     * @param method HTTP method
+     * @param path   Request path including query string
+     * @param body   Request body, or null
+     * @return Key, e.g. "POST /api/v1/Books\n{"id":1,"title":"x"}"
+     */
+    public static String of(String method, String path, String body) {
+        return method + " " + path + "\n" + normalize(body);
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the key's UTF-8 bytes, used to index the cassette.
+     */
+    public static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    static String normalize(String body) {
+        if (body == null || body.isBlank()) {
+            return "";
+        }
+        String trimmed = body.trim();
+        char first = trimmed.charAt(0);
+        if (first != '{' && first != '[') {
+            return trimmed;
+        }
+        try {
+            JsonNode tree = CANONICAL.readTree(trimmed);
+            // readTree keeps field order; converting through Object lets ORDER_MAP_ENTRIES_BY_KEYS sort it
+            return CANONICAL.writeValueAsString(CANONICAL.treeToValue(tree, Object.class));
+        } catch (JsonProcessingException e) {
+            return trimmed; // malformed JSON is matched verbatim
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.bookstore.cassette;
+
+/**
+ * Thrown in REPLAY mode when a request was never recorded in the cassette.
+ */
+public class CassetteMissException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CassetteMissException(String key) {
+        super("No recorded interaction for: " + key.replace('\n', ' ') + " (re-record with cassette.mode=record)");
+    }
+}
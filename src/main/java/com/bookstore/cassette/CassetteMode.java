@@ -0,0 +1,13 @@
+package com.bookstore.cassette;
+
+/**
+ * Cassette behaviour of the clients, read from {@code cassette.mode}.
+ * <ul>
+ *   <li><b>OFF</b> - Requests go to the server, nothing is recorded</li>
+ *   <li><b>RECORD</b> - Requests go to the server and every interaction is appended to the cassette</li>
+ *   <li><b>REPLAY</b> - Responses are served from the cassette; nothing goes over the network</li>
+ * </ul>
+ */
+public enum CassetteMode {
+    OFF, RECORD, REPLAY
+}
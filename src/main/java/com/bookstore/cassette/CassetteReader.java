@@ -0,0 +1,159 @@
+package com.bookstore.cassette;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves interactions from a memory-mapped cassette file.
+ * <p>
+ * Opening a cassette maps the file and reads a 24-byte header; nothing else is parsed up front,
+ * so start-up time does not depend on the number of interactions. Lookups binary-search the
+ * sorted index and decode only the matching records.
+ * </p>
+ * <p>
+ * <b>File format</b> (big-endian):
+ * <ul>
+ *   <li>Header: magic "BKCS", version, index offset (long), interaction count, reserved</li>
+ *   <li>Records: key length + UTF-8 key, status, header count, (length + UTF-8 "Name: value")*,
+ *       body length + body</li>
+ *   <li>Index: count x (key hash, record offset), sorted by hash, then recording order</li>
+ * </ul>
+ * Cassettes larger than 2 GB are not supported.
+ * </p>
+ * <p>
+ * A key recorded several times (e.g. GET before and after an update) replays in recording order;
+ * once exhausted, the last recording is repeated. Thread-safe.
+ * </p>
+ */
+public final class CassetteReader {
+
+    static final int MAGIC = 0x424B4353; // "BKCS"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    static final int INDEX_ENTRY_BYTES = 16;
+
+    private final Path file;
+    private final MappedByteBuffer data;
+    private final int indexOffset;
+    private final int count;
+    private final Map<String, AtomicInteger> replayed = new ConcurrentHashMap<>();
+
+    /**
+     * Maps a cassette written by {@link CassetteWriter}.
+     * @throws IllegalArgumentException if the file is not a complete cassette
+     */
+    public CassetteReader(Path file) {
+        this.file = file;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            data = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open cassette " + file, e);
+        }
+        if (data.capacity() < HEADER_BYTES || data.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException(file + " is not a cassette");
+        }
+        if (data.getInt(4) != VERSION) {
+            throw new IllegalArgumentException(file + " has unsupported cassette version " + data.getInt(4));
+        }
+        long index = data.getLong(8);
+        count = data.getInt(16);
+        if (index == 0 || index + (long) count * INDEX_ENTRY_BYTES > data.capacity()) {
+            throw new IllegalArgumentException(file + " is incomplete (recording was not closed)");
+        }
+        indexOffset = (int) index;
+    }
+
+    /** @return Number of recorded interactions */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Returns the next recorded response for a key.
+     * @param key Match key from {@link CassetteKey#of}
+     * @return Interaction, or null if the key was never recorded
+     */
+    public Interaction next(String key) {
+        List<Integer> matches = find(key);
+        if (matches.isEmpty()) {
+            return null;
+        }
+        int ordinal = replayed.computeIfAbsent(key, k -> new AtomicInteger()).getAndIncrement();
+        return decode(matches.get(Math.min(ordinal, matches.size() - 1)));
+    }
+
+    private List<Integer> find(String key) {
+        long hash = CassetteKey.hash(key);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        // lower bound of hash in the sorted index
+        int lo = 0;
+        int hi = count;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (hashAt(mid) < hash) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        List<Integer> matches = new ArrayList<>(1);
+        for (int i = lo; i < count && hashAt(i) == hash; i++) {
+            int offset = (int) data.getLong(indexOffset + i * INDEX_ENTRY_BYTES + 8);
+            if (keyEquals(offset, keyBytes)) {
+                matches.add(offset);
+            }
+        }
+        return matches;
+    }
+
+    private long hashAt(int i) {
+        return data.getLong(indexOffset + i * INDEX_ENTRY_BYTES);
+    }
+
+    private boolean keyEquals(int offset, byte[] key) {
+        if (data.getInt(offset) != key.length) {
+            return false;
+        }
+        byte[] stored = new byte[key.length];
+        data.get(offset + 4, stored);
+        return Arrays.equals(stored, key);
+    }
+
+    private Interaction decode(int offset) {
+        ByteBuffer record = data.duplicate();
+        record.position(offset);
+        String key = string(record);
+        int status = record.getInt();
+        int headerCount = record.getInt();
+        List<String> headers = new ArrayList<>(headerCount);
+        for (int i = 0; i < headerCount; i++) {
+            headers.add(string(record));
+        }
+        byte[] body = new byte[record.getInt()];
+        record.get(body);
+        return new Interaction(key, status, headers, body);
+    }
+
+    private static String string(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "CassetteReader[" + file + ", " + count + " interactions]";
+    }
+}
@@ -0,0 +1,128 @@
+package com.bookstore.cassette;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Appends interactions to a cassette file (format: see {@link CassetteReader}).
+ * <p>
+ * Records are written as they arrive; only the (hash, offset) index is kept in memory and is
+ * written, sorted, on {@link #close()}. Thread-safe.
+ * </p>
+ */
+public final class CassetteWriter implements AutoCloseable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private long[] hashes = new long[1024];
+    private long[] offsets = new long[1024];
+    private int count;
+    private long position = CassetteReader.HEADER_BYTES;
+    private boolean closed;
+
+    /**
+     * Creates (or truncates) a cassette file.
+     */
+    public CassetteWriter(Path file) {
+        this.file = file;
+        try {
+            if (file.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+            }
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING);
+            writeFully(header(0, 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create cassette " + file, e);
+        }
+    }
+
+    /**
+     * Appends one interaction.
+     */
+    public synchronized void append(Interaction interaction) {
+        if (closed) {
+            throw new IllegalStateException("Cassette " + file + " is already closed");
+        }
+        byte[] key = interaction.key().getBytes(StandardCharsets.UTF_8);
+        byte[][] headers = new byte[interaction.headers().size()][];
+        int size = 4 + key.length + 4 + 4 + 4 + interaction.body().length;
+        for (int i = 0; i < headers.length; i++) {
+            headers[i] = interaction.headers().get(i).getBytes(StandardCharsets.UTF_8);
+            size += 4 + headers[i].length;
+        }
+        ByteBuffer record = ByteBuffer.allocate(size);
+        record.putInt(key.length).put(key).putInt(interaction.status()).putInt(headers.length);
+        for (byte[] header : headers) {
+            record.putInt(header.length).put(header);
+        }
+        record.putInt(interaction.body().length).put(interaction.body()).flip();
+        try {
+            writeFully(record, position);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write to cassette " + file, e);
+        }
+        if (count == hashes.length) {
+            hashes = Arrays.copyOf(hashes, count * 2);
+            offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        hashes[count] = CassetteKey.hash(interaction.key());
+        offsets[count] = position;
+        count++;
+        position += size;
+    }
+
+    /** @return Number of interactions written so far */
+    public synchronized int size() {
+        return count;
+    }
+
+    /**
+     * Writes the index and header. The cassette is readable only after this.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Sort by hash, then by offset (= recording order), so equal keys replay in order.
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> hashes[a] != hashes[b] ? Long.compare(hashes[a], hashes[b])
+                : Long.compare(offsets[a], offsets[b]));
+        ByteBuffer index = ByteBuffer.allocate(count * CassetteReader.INDEX_ENTRY_BYTES);
+        for (int i : order) {
+            index.putLong(hashes[i]).putLong(offsets[i]);
+        }
+        index.flip();
+        try (FileChannel out = channel) {
+            writeFully(index, position);
+            writeFully(header(position, count), 0);
+            out.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not finish cassette " + file, e);
+        }
+    }
+
+    private static ByteBuffer header(long indexOffset, int count) {
+        ByteBuffer header = ByteBuffer.allocate(CassetteReader.HEADER_BYTES);
+        header.putInt(CassetteReader.MAGIC).putInt(CassetteReader.VERSION).putLong(indexOffset).putInt(count).putInt(0);
+        return header.flip();
+    }
+
+    private void writeFully(ByteBuffer buffer, long at) throws IOException {
+        while (buffer.hasRemaining()) {
+            at += channel.write(buffer, at);
+        }
+    }
+}
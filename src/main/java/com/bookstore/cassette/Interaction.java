@@ -0,0 +1,13 @@
+package com.bookstore.cassette;
+
+import java.util.List;
+
+/**
+ * One recorded request/response pair.
+ *
+ * @param key     Match key, see {@link CassetteKey}
+ * @param status  Response status code
+ * @param headers Response headers as "Name: value" lines
+ * @param body    Response body
+ */
+public record Interaction(String key, int status, List<String> headers, byte[] body) { }
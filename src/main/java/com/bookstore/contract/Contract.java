@@ -0,0 +1,285 @@
+package com.bookstore.contract;
+
+import com.bookstore.api.Resource;
+import com.bookstore.utils.Config;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Compiled JSON contract of a {@code Book} or {@code Author} payload: which fields exist, their JSON types,
+ * and which are required or nullable. Fields that are not part of the contract are violations, so drift in
+ * either direction is caught.
+ * <p>
+ * A contract is compiled once into a field table and a bitmask of required fields. Validation is a single
+ * streaming pass over the response bytes: string values are skipped without being decoded and no object
+ * tree is built, so a list of any length is checked in constant memory. Beyond the parser's reusable buffers,
+ * the only allocations are the result and at most {@code contract.max.violations} messages; the parser
+ * additionally rejects nesting deeper than {@value #MAX_DEPTH} and numbers longer than {@value #MAX_NUMBER_LENGTH}
+ * digits.
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   ContractResult result = Contract.BOOK.validateArray(BooksClient.getAllBooks().asByteArray());
+ *   assertThat(result.toString(), result.violations(), is(empty()));
+ * </code>
+ * </p>
+ */
+public final class Contract {
+
+    static final int MAX_DEPTH = 32;
+    static final int MAX_NUMBER_LENGTH = 64;
+    private static final int MAX_VIOLATIONS = Config.get().getInt("contract.max.violations", 20);
+
+    private static final JsonFactory FACTORY = JsonFactory.builder()
+            .streamReadConstraints(StreamReadConstraints.builder()
+                    .maxNestingDepth(MAX_DEPTH)
+                    .maxNumberLength(MAX_NUMBER_LENGTH)
+                    .build())
+            .build();
+
+    /** Contract of a book as returned by the /Books endpoints. */
+    public static final Contract BOOK = builder("Book")
+            .required("id", FieldType.INTEGER)
+            .required("title", FieldType.STRING)
+            .optional("description", FieldType.STRING)
+            .required("pageCount", FieldType.INTEGER)
+            .optional("excerpt", FieldType.STRING)
+            .optional("publishDate", FieldType.STRING)
+            .build();
+
+    /** Contract of an author as returned by the /Authors endpoints. */
+    public static final Contract AUTHOR = builder("Author")
+            .required("id", FieldType.INTEGER)
+            .required("name", FieldType.STRING)
+            .optional("bio", FieldType.STRING)
+            .optional("birthDate", FieldType.STRING)
+            .build();
+
+    /** JSON value types a field can be declared with. */
+    public enum FieldType {
+        /** Whole number that fits a Java int. */
+        INTEGER,
+        /** Any number. */
+        NUMBER,
+        STRING,
+        BOOLEAN;
+
+        private final String mismatch = "expected " + name().toLowerCase(Locale.ROOT) + " but was ";
+
+        boolean accepts(JsonToken token, JsonParser parser) throws IOException {
+            switch (this) {
+                case INTEGER:
+                    return token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.INT;
+                case NUMBER:
+                    return token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT;
+                case STRING:
+                    return token == JsonToken.VALUE_STRING;
+                default:
+                    return token == JsonToken.VALUE_TRUE || token == JsonToken.VALUE_FALSE;
+            }
+        }
+    }
+
+    private record Field(String name, FieldType type, boolean nullable) { }
+
+    private final String name;
+    private final String objectMismatch;
+    private final Field[] fields;
+    private final Map<String, Integer> index;
+    private final long requiredMask;
+
+    private Contract(String name, List<Field> fields, long requiredMask) {
+        this.name = name;
+        this.objectMismatch = "expected " + name + " object but was ";
+        this.fields = fields.toArray(new Field[0]);
+        this.index = new HashMap<>();
+        for (int i = 0; i < this.fields.length; i++) {
+            index.put(this.fields[i].name(), i);
+        }
+        this.requiredMask = requiredMask;
+    }
+
+    /**
+     * @return Contract of the resource's records
+     */
+    public static Contract of(Resource resource) {
+        return resource == Resource.BOOKS ? BOOK : AUTHOR;
+    }
+
+    /**
+     * Starts a new contract.
+     * @param name Name used in violation messages, e.g. "Book"
+     */
+    public static Builder builder(String name) {
+        return new Builder(name);
+    }
+
+    /** @return Contract name, e.g. "Book" */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Validates a body holding one object.
+     * @param json Response body
+     * @return Outcome with (capped) violation messages
+     */
+    public ContractResult validate(byte[] json) {
+        return run(json, false);
+    }
+
+    /**
+     * Validates a body holding an array of objects.
+     * @param json Response body
+     * @return Outcome with (capped) violation messages
+     */
+    public ContractResult validateArray(byte[] json) {
+        return run(json, true);
+    }
+
+    private ContractResult run(byte[] json, boolean array) {
+        ContractResult.Collector violations = new ContractResult.Collector(MAX_VIOLATIONS);
+        int elements = 0;
+        try (JsonParser parser = FACTORY.createParser(json)) {
+            JsonToken token = parser.nextToken();
+            if (!array) {
+                if (token == JsonToken.START_OBJECT) {
+                    validateObject(parser, -1, violations);
+                    elements = 1;
+                } else {
+                    violations.add(-1, null, objectMismatch, describe(token));
+                    parser.skipChildren();
+                }
+            } else if (token != JsonToken.START_ARRAY) {
+                violations.add(-1, null, "expected array of " + name + " but was ", describe(token));
+                parser.skipChildren();
+            } else {
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+                    if (token == JsonToken.START_OBJECT) {
+                        validateObject(parser, elements, violations);
+                    } else {
+                        violations.add(elements, null, objectMismatch, describe(token));
+                        parser.skipChildren();
+                    }
+                    elements++;
+                }
+            }
+            if (token != null && parser.nextToken() != null) {
+                violations.add(-1, null, "unexpected content after the JSON value", null);
+            }
+        } catch (JsonProcessingException e) {
+            violations.add(-1, null, "invalid JSON: ", e.getOriginalMessage());
+        } catch (IOException e) {
+            violations.add(-1, null, "unreadable body: ", e.getMessage());
+        }
+        return violations.result(name, elements);
+    }
+
+    /**
+     * Validates the object whose START_OBJECT is the current token; returns on its END_OBJECT.
+     */
+    private void validateObject(JsonParser parser, int element, ContractResult.Collector violations) throws IOException {
+        long seen = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken value = parser.nextToken();
+            Integer i = index.get(fieldName);
+            if (i == null) {
+                violations.add(element, fieldName, "unexpected field", null);
+                parser.skipChildren();
+                continue;
+            }
+            Field field = fields[i];
+            if ((seen & (1L << i)) != 0) {
+                violations.add(element, fieldName, "duplicate field", null);
+            }
+            seen |= 1L << i;
+            if (value == JsonToken.VALUE_NULL) {
+                if (!field.nullable()) {
+                    violations.add(element, fieldName, "must not be null", null);
+                }
+            } else if (!field.type().accepts(value, parser)) {
+                violations.add(element, fieldName, field.type().mismatch,
+                        field.type() == FieldType.INTEGER && value == JsonToken.VALUE_NUMBER_INT
+                                ? "integer out of int range" : describe(value));
+                parser.skipChildren();
+            }
+        }
+        long missing = requiredMask & ~seen;
+        while (missing != 0) {
+            int i = Long.numberOfTrailingZeros(missing);
+            violations.add(element, fields[i].name(), "missing required field", null);
+            missing &= missing - 1;
+        }
+    }
+
+    private static String describe(JsonToken token) {
+        if (token == null) {
+            return "end of input";
+        }
+        switch (token) {
+            case START_OBJECT: return "object";
+            case START_ARRAY: return "array";
+            case VALUE_STRING: return "string";
+            case VALUE_NUMBER_INT: return "integer";
+            case VALUE_NUMBER_FLOAT: return "number";
+            case VALUE_TRUE:
+            case VALUE_FALSE: return "boolean";
+            case VALUE_NULL: return "null";
+            default: return token.name();
+        }
+    }
+
+    /**
+     * Declares the fields of a {@link Contract}; up to 64 fields.
+     */
+    public static final class Builder {
+
+        private final String name;
+        private final List<Field> fields = new ArrayList<>();
+        private long requiredMask;
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /** Declares a field that must be present and not null. */
+        public Builder required(String field, FieldType type) {
+            requiredMask |= 1L << fields.size();
+            return add(new Field(field, type, false));
+        }
+
+        /** Declares a field that may be absent or null. */
+        public Builder optional(String field, FieldType type) {
+            return add(new Field(field, type, true));
+        }
+
+        private Builder add(Field field) {
+            if (fields.size() == Long.SIZE) {
+                throw new IllegalStateException("Contract " + name + " cannot have more than " + Long.SIZE + " fields");
+            }
+            if (fields.stream().anyMatch(f -> f.name().equals(field.name()))) {
+                throw new IllegalStateException("Field " + field.name() + " declared twice in contract " + name);
+            }
+            fields.add(field);
+            return this;
+        }
+
+        /** @return The compiled contract */
+        public Contract build() {
+            return new Contract(name, fields, requiredMask);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.bookstore.contract;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of one {@link Contract} validation.
+ * Only the first {@code contract.max.violations} messages are kept; {@link #violationCount()} counts all.
+ */
+public final class ContractResult {
+
+    private final String contract;
+    private final int elements;
+    private final List<String> violations;
+    private final int violationCount;
+
+    private ContractResult(String contract, int elements, List<String> violations, int violationCount) {
+        this.contract = contract;
+        this.elements = elements;
+        this.violations = violations;
+        this.violationCount = violationCount;
+    }
+
+    /** @return true if the body matched the contract */
+    public boolean isValid() {
+        return violationCount == 0;
+    }
+
+    /** @return Violation messages such as "$[3].pageCount: expected integer but was string" (capped) */
+    public List<String> violations() {
+        return violations;
+    }
+
+    /** @return Number of violations found, including those beyond the cap */
+    public int violationCount() {
+        return violationCount;
+    }
+
+    /** @return Objects validated (array elements, or 1 for a single object) */
+    public int elements() {
+        return elements;
+    }
+
+    @Override
+    public String toString() {
+        if (isValid()) {
+            return contract + " contract: " + elements + " object(s) valid";
+        }
+        return contract + " contract: " + violationCount + " violation(s) in " + elements + " object(s): " + violations
+                + (violationCount > violations.size() ? " ..." : "");
+    }
+
+    /**
+     * Collects violations up to the cap. Messages are only built for violations that are kept.
+     */
+    static final class Collector {
+
+        private final int max;
+        private List<String> messages = List.of();
+        private int count;
+
+        Collector(int max) {
+            this.max = max;
+        }
+
+        /**
+         * @param element Array index of the object, or -1 for the top-level value
+         * @param field   Field name, or null for the object itself
+         * @param problem Description, e.g. "missing required field"
+         * @param detail  Appended to the problem, or null
+         */
+        void add(int element, String field, String problem, String detail) {
+            if (count++ >= max) {
+                return;
+            }
+            if (messages.isEmpty()) {
+                messages = new ArrayList<>();
+            }
+            StringBuilder message = new StringBuilder("$");
+            if (element >= 0) {
+                message.append('[').append(element).append(']');
+            }
+            if (field != null) {
+                message.append('.').append(field);
+            }
+            message.append(": ").append(problem);
+            if (detail != null) {
+                message.append(detail);
+            }
+            messages.add(message.toString());
+        }
+
+        ContractResult result(String contract, int elements) {
+            return new ContractResult(contract, elements, List.copyOf(messages), count);
+        }
+    }
+}
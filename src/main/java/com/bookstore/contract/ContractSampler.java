@@ -0,0 +1,118 @@
+package com.bookstore.contract;
+
+import com.bookstore.api.Endpoint;
+import com.bookstore.utils.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Validates a random sample of successful client responses against their {@link Contract}, e.g. during
+ * load runs where checking every body would cost too much. Used by {@code ContractFilter}.
+ * <p>
+ * List endpoints are checked as arrays, get/create/update endpoints as single objects; deletes are not checked.
+ * Counters are kept per endpoint together with the first few violation messages.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>contract.sample.rate</b> - Share of responses to validate, 0..1 (default 0 = off)</li>
+ *   <li><b>contract.max.violations</b> - Violation messages kept per validation (default 20)</li>
+ * </ul>
+ * </p>
+ */
+public final class ContractSampler {
+
+    private static final int MAX_EXAMPLES = 5;
+    private static final double RATE = Math.min(1, Config.get().getDouble("contract.sample.rate", 0));
+
+    private static final Endpoint[] ENDPOINTS = Endpoint.values();
+    private static final LongAdder[] CHECKED = adders();
+    private static final LongAdder[] VIOLATED = adders();
+    /** Guarded by itself. */
+    private static final List<List<String>> EXAMPLES = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < ENDPOINTS.length; i++) {
+            EXAMPLES.add(new ArrayList<>());
+        }
+    }
+
+    private ContractSampler() { }
+
+    /** @return true if sampling is on (contract.sample.rate &gt; 0) */
+    public static boolean isEnabled() {
+        return RATE > 0;
+    }
+
+    /**
+     * @return true if this response should be validated; false for unchecked endpoints
+     */
+    public static boolean sample(Endpoint endpoint) {
+        return endpoint.resource() != null && !"DELETE".equals(endpoint.method())
+                && (RATE >= 1 || ThreadLocalRandom.current().nextDouble() < RATE);
+    }
+
+    /**
+     * Validates a successful response body of the endpoint and records the outcome.
+     * @return The validation result
+     */
+    public static ContractResult check(Endpoint endpoint, byte[] body) {
+        Contract contract = Contract.of(endpoint.resource());
+        boolean list = endpoint == Endpoint.BOOKS_LIST || endpoint == Endpoint.AUTHORS_LIST;
+        ContractResult result = list ? contract.validateArray(body) : contract.validate(body);
+        int slot = endpoint.ordinal();
+        CHECKED[slot].increment();
+        if (!result.isValid()) {
+            VIOLATED[slot].increment();
+            List<String> examples = EXAMPLES.get(slot);
+            synchronized (EXAMPLES) {
+                for (String violation : result.violations()) {
+                    if (examples.size() >= MAX_EXAMPLES) {
+                        break;
+                    }
+                    examples.add(violation);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Stats of every endpoint checked so far, in endpoint order
+     */
+    public static List<ContractStats> stats() {
+        List<ContractStats> stats = new ArrayList<>();
+        synchronized (EXAMPLES) {
+            for (Endpoint endpoint : ENDPOINTS) {
+                long checked = CHECKED[endpoint.ordinal()].sum();
+                if (checked > 0) {
+                    stats.add(new ContractStats(endpoint, checked, VIOLATED[endpoint.ordinal()].sum(),
+                            List.copyOf(EXAMPLES.get(endpoint.ordinal()))));
+                }
+            }
+        }
+        return stats;
+    }
+
+    /** Clears all counters (e.g. at the start of a load run). */
+    public static void reset() {
+        synchronized (EXAMPLES) {
+            for (int i = 0; i < ENDPOINTS.length; i++) {
+                CHECKED[i].reset();
+                VIOLATED[i].reset();
+                EXAMPLES.get(i).clear();
+            }
+        }
+    }
+
+    private static LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[ENDPOINTS.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bookstore.contract;
+
+import com.bookstore.api.Endpoint;
+
+import java.util.List;
+
+/**
+ * Sampled contract checks of one endpoint (see {@link ContractSampler}).
+ *
+ * @param endpoint Checked endpoint
+ * @param checked  Responses validated
+ * @param violated Responses with at least one violation
+ * @param examples First violation messages seen (a few at most)
+ */
+public record ContractStats(Endpoint endpoint, long checked, long violated, List<String> examples) {
+
+    @Override
+    public String toString() {
+        return endpoint.label() + "[checked=" + checked + ", violated=" + violated
+                + (examples.isEmpty() ? "" : ", e.g. " + examples) + "]";
+    }
+}
@@ -0,0 +1,290 @@
+package com.bookstore.data;
+
+import com.bookstore.model.Author;
+import com.bookstore.model.Book;
+import com.bookstore.utils.Config;
+
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Deterministic, seedable source of synthetic {@link Book} and {@link Author} records.
+ * <p>
+ * Every record is derived only from (seed, index), so the same seed always yields the same data,
+ * streams are lazy (nothing is materialized up front) and any index can be regenerated on its own,
+ * e.g. by a load worker. Boundary-value variants ({@link BookVariant}, {@link AuthorVariant}) cover
+ * unicode text, extreme page counts, malformed dates, large texts and missing required fields.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>data.seed</b> - Seed of {@link #fromConfig()} (default 42)</li>
+ *   <li><b>data.large.text.chars</b> - Length of "large" excerpts and bios (default 65536)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   DataGenerator generator = DataGenerator.fromConfig();
+ *   BooksClient.addBooks(generator.books(firstId, 10_000).toList());
+ *   generator.bookVariants(firstId, 1_000_000).forEach(sample -> ...);
+ * </code>
+ * </p>
+ */
+public final class DataGenerator {
+
+    private static final int LARGE_TEXT_CHARS = Config.get().getInt("data.large.text.chars", 65_536);
+
+    private static final String[] ADJECTIVES = {
+            "Silent", "Hidden", "Last", "Broken", "Golden", "Distant", "Practical", "Clean", "Modern", "Forgotten",
+            "Effective", "Secret", "Lost", "Quiet", "Final", "Pragmatic", "Little", "Endless", "Hollow", "Bright"};
+    private static final String[] NOUNS = {
+            "River", "Garden", "Algorithm", "Kingdom", "Architecture", "Journey", "Protocol", "Harbor", "Library",
+            "Mountain", "Testing", "Design", "Empire", "Letters", "Systems", "Shadows", "Patterns", "Voyage", "Code", "Winter"};
+    private static final String[] FIRST_NAMES = {
+            "Jane", "John", "Amelia", "Kenji", "Olga", "Mateo", "Aisha", "Lars", "Priya", "Chen",
+            "Fatima", "Noah", "Ingrid", "Diego", "Yuki", "Omar", "Clara", "Ivan", "Leila", "Tomás"};
+    private static final String[] LAST_NAMES = {
+            "Austen", "Smith", "Tanaka", "Ivanova", "García", "Khan", "Nilsson", "Patel", "Wei", "Haddad",
+            "Müller", "Rossi", "O'Brien", "Kowalski", "Nakamura", "Dubois", "Silva", "Novak", "Jensen", "Yilmaz"};
+    private static final String[] UNICODE_TEXTS = {
+            "Война и мир", "東京物語", "백년의 고독", "Ελληνικά γράμματα", "עברית לכולם", "ألف ليلة وليلة",
+            "📚 Books & 🐉 Dragons", "Z̷a̶l̸g̵o̴ T̶e̷x̸t", "Ünïcödé Çåfé", "𝔉𝔯𝔞𝔨𝔱𝔲𝔯 𝔖𝔠𝔥𝔯𝔦𝔣𝔱",
+            "हिन्दी उपन्यास", "ไทย นวนิยาย", "été (combining)", "tab\there, \"quotes\" \\ back"};
+    private static final String[] MALFORMED_DATES = {
+            "2023-13-45T00:00:00Z", "2023-02-30", "31/12/2023", "not-a-date", "", "0000-00-00", "2023-01-01T25:61:00Z",
+            "99999-01-01T00:00:00Z"};
+
+    private final long seed;
+
+    /** @param seed Seed; equal seeds generate equal data */
+    public DataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /** @return Generator seeded with data.seed */
+    public static DataGenerator fromConfig() {
+        return new DataGenerator(Config.get().getLong("data.seed", 42));
+    }
+
+    /** Expected API reaction to a generated record. */
+    public enum Outcome {
+        /** Must be accepted (2xx). */
+        ACCEPT,
+        /** Must be rejected (400). */
+        REJECT,
+        /** Either is fine, as long as the server does not fail (no 5xx). */
+        NO_SERVER_ERROR
+    }
+
+    /** Boundary-value variants of a book. */
+    public enum BookVariant {
+        VALID(Outcome.ACCEPT),
+        UNICODE_TITLE(Outcome.ACCEPT),
+        ZERO_PAGE_COUNT(Outcome.NO_SERVER_ERROR),
+        NEGATIVE_PAGE_COUNT(Outcome.NO_SERVER_ERROR),
+        MAX_PAGE_COUNT(Outcome.NO_SERVER_ERROR),
+        MIN_PAGE_COUNT(Outcome.NO_SERVER_ERROR),
+        MALFORMED_DATE(Outcome.NO_SERVER_ERROR),
+        LARGE_EXCERPT(Outcome.NO_SERVER_ERROR),
+        BLANK_TITLE(Outcome.REJECT),
+        MISSING_TITLE(Outcome.REJECT);
+
+        private static final BookVariant[] VALUES = values();
+        private final Outcome expected;
+
+        BookVariant(Outcome expected) {
+            this.expected = expected;
+        }
+
+        /** @return Expected API reaction */
+        public Outcome expected() { return expected; }
+    }
+
+    /** Boundary-value variants of an author. */
+    public enum AuthorVariant {
+        VALID(Outcome.ACCEPT),
+        UNICODE_NAME(Outcome.ACCEPT),
+        MALFORMED_DATE(Outcome.NO_SERVER_ERROR),
+        LARGE_BIO(Outcome.NO_SERVER_ERROR),
+        BLANK_NAME(Outcome.REJECT),
+        MISSING_NAME(Outcome.REJECT);
+
+        private static final AuthorVariant[] VALUES = values();
+        private final Outcome expected;
+
+        AuthorVariant(Outcome expected) {
+            this.expected = expected;
+        }
+
+        /** @return Expected API reaction */
+        public Outcome expected() { return expected; }
+    }
+
+    /**
+     * A generated record, the variant it was built as and the expected API reaction.
+     * @param <T> Book or Author
+     * @param <V> {@link BookVariant} or {@link AuthorVariant}
+     */
+    public record Sample<T, V>(T value, V variant, Outcome expected) { }
+
+    // -- Books --
+
+    /**
+     * @param index Position in the generated sequence (determines the content)
+     * @param id    ID to give the book
+     * @return A realistic, valid book
+     */
+    public Book book(long index, int id) {
+        SplittableRandom random = random(index);
+        String title = pick(random, ADJECTIVES) + " " + pick(random, NOUNS);
+        String description = "The " + title.toLowerCase(Locale.ROOT) + ", "
+                + pick(random, NOUNS).toLowerCase(Locale.ROOT) + " edition.";
+        return new Book(id, title, description,
+                40 + random.nextInt(1200), sentence(random, 3 + random.nextInt(12)), date(random) + "T00:00:00Z");
+    }
+
+    /**
+     * Lazily generates valid books with IDs firstId, firstId + 1, ...
+     * @param firstId ID of the first book
+     * @param count   Number of books
+     * @return Sequential stream of books
+     */
+    public Stream<Book> books(int firstId, long count) {
+        return LongStream.range(0, count).mapToObj(i -> book(i, firstId + (int) i));
+    }
+
+    /**
+     * Lazily generates books cycling through every {@link BookVariant}, starting with VALID.
+     * @param firstId ID of the first book
+     * @param count   Number of books
+     * @return Sequential stream of samples
+     */
+    public Stream<Sample<Book, BookVariant>> bookVariants(int firstId, long count) {
+        return LongStream.range(0, count).mapToObj(i -> {
+            BookVariant variant = BookVariant.VALUES[(int) (i % BookVariant.VALUES.length)];
+            return new Sample<>(bookVariant(i, firstId + (int) i, variant), variant, variant.expected());
+        });
+    }
+
+    /**
+     * @return The book at this index, altered as the variant describes
+     */
+    public Book bookVariant(long index, int id, BookVariant variant) {
+        Book book = book(index, id);
+        SplittableRandom random = random(~index);
+        switch (variant) {
+            case UNICODE_TITLE -> book.setTitle(pick(random, UNICODE_TEXTS));
+            case ZERO_PAGE_COUNT -> book.setPageCount(0);
+            case NEGATIVE_PAGE_COUNT -> book.setPageCount(-1 - random.nextInt(1000));
+            case MAX_PAGE_COUNT -> book.setPageCount(Integer.MAX_VALUE);
+            case MIN_PAGE_COUNT -> book.setPageCount(Integer.MIN_VALUE);
+            case MALFORMED_DATE -> book.setPublishDate(pick(random, MALFORMED_DATES));
+            case LARGE_EXCERPT -> book.setExcerpt(largeText(random));
+            case BLANK_TITLE -> book.setTitle(random.nextBoolean() ? "" : "   ");
+            case MISSING_TITLE -> book.setTitle(null);
+            default -> { }
+        }
+        return book;
+    }
+
+    // -- Authors --
+
+    /**
+     * @param index Position in the generated sequence (determines the content)
+     * @param id    ID to give the author
+     * @return A realistic, valid author
+     */
+    public Author author(long index, int id) {
+        SplittableRandom random = random(index);
+        String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+        return new Author(id, name, "Writes about " + pick(random, NOUNS).toLowerCase(Locale.ROOT) + ". " + sentence(random, 8),
+                date(random).toString());
+    }
+
+    /**
+     * Lazily generates valid authors with IDs firstId, firstId + 1, ...
+     * @param firstId ID of the first author
+     * @param count   Number of authors
+     * @return Sequential stream of authors
+     */
+    public Stream<Author> authors(int firstId, long count) {
+        return LongStream.range(0, count).mapToObj(i -> author(i, firstId + (int) i));
+    }
+
+    /**
+     * Lazily generates authors cycling through every {@link AuthorVariant}, starting with VALID.
+     * @param firstId ID of the first author
+     * @param count   Number of authors
+     * @return Sequential stream of samples
+     */
+    public Stream<Sample<Author, AuthorVariant>> authorVariants(int firstId, long count) {
+        return LongStream.range(0, count).mapToObj(i -> {
+            AuthorVariant variant = AuthorVariant.VALUES[(int) (i % AuthorVariant.VALUES.length)];
+            return new Sample<>(authorVariant(i, firstId + (int) i, variant), variant, variant.expected());
+        });
+    }
+
+    /**
+     * @return The author at this index, altered as the variant describes
+     */
+    public Author authorVariant(long index, int id, AuthorVariant variant) {
+        Author author = author(index, id);
+        SplittableRandom random = random(~index);
+        switch (variant) {
+            case UNICODE_NAME -> author.setName(pick(random, UNICODE_TEXTS));
+            case MALFORMED_DATE -> author.setBirthDate(pick(random, MALFORMED_DATES));
+            case LARGE_BIO -> author.setBio(largeText(random));
+            case BLANK_NAME -> author.setName(random.nextBoolean() ? "" : "   ");
+            case MISSING_NAME -> author.setName(null);
+            default -> { }
+        }
+        return author;
+    }
+
+    // -- Helpers --
+
+    /**
+     * Independent stream per index: neighbouring indexes must not share (shifted) sequences,
+     * so the seed is scrambled rather than offset.
+     */
+    private SplittableRandom random(long index) {
+        return new SplittableRandom(mix(seed ^ mix(index)));
+    }
+
+    /** MurmurHash3 64-bit finalizer. */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String sentence(SplittableRandom random, int words) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sb.append(i == 0 ? "" : " ").append(pick(random, i % 2 == 0 ? ADJECTIVES : NOUNS).toLowerCase(Locale.ROOT));
+        }
+        return sb.append('.').toString();
+    }
+
+    private static String largeText(SplittableRandom random) {
+        StringBuilder sb = new StringBuilder(LARGE_TEXT_CHARS + 16);
+        while (sb.length() < LARGE_TEXT_CHARS) {
+            sb.append(sentence(random, 12)).append(' ');
+        }
+        sb.setLength(LARGE_TEXT_CHARS);
+        return sb.toString();
+    }
+
+    private static LocalDate date(SplittableRandom random) {
+        return LocalDate.ofEpochDay(random.nextLong(LocalDate.of(1900, 1, 1).toEpochDay(), LocalDate.of(2024, 12, 31).toEpochDay()));
+    }
+}
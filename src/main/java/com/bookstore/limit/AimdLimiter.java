@@ -0,0 +1,98 @@
+package com.bookstore.limit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive concurrency limiter (additive increase, multiplicative decrease).
+ * <p>
+ * Calls above the current limit wait. Every call that completes in time while the limit is in
+ * use raises the limit by {@code 1/limit} (about +1 per limit's worth of calls); a call that
+ * failed without a response, was answered 429/503, or took longer than the latency threshold
+ * multiplies it by the backoff ratio. The limit therefore settles just below the concurrency
+ * at which the backend starts to slow down.
+ * </p>
+ */
+final class AimdLimiter {
+
+    private final int min;
+    private final int max;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private final Condition available = lock.newCondition();
+
+    /** Guarded by lock. */
+    private double limit;
+    private int inFlight;
+
+    AimdLimiter(int initial, int min, int max, double backoffRatio, long latencyThresholdMs) {
+        this.min = min;
+        this.max = max;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(latencyThresholdMs);
+        this.limit = Math.max(min, Math.min(max, initial));
+    }
+
+    /**
+     * Waits for a slot below the current limit.
+     * @param maxWaitNanos Longest acceptable wait
+     * @return false if no slot became free in time
+     */
+    boolean acquire(long maxWaitNanos) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            long remaining = maxWaitNanos;
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = available.awaitNanos(remaining);
+            }
+            inFlight++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees the slot of a finished call and adapts the limit to its outcome.
+     * @param status     HTTP status, or 0 if the call failed without a response
+     * @param rttNanos   Duration of the call
+     */
+    void release(int status, long rttNanos) {
+        lock.lock();
+        try {
+            boolean utilized = inFlight * 2 >= limit;
+            inFlight--;
+            if (status == 0 || status == 429 || status == 503 || rttNanos > latencyThresholdNanos) {
+                limit = Math.max(min, limit * backoffRatio);
+            } else if (utilized) {
+                limit = Math.min(max, limit + 1 / limit);
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int limit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
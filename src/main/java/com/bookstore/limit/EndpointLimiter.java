@@ -0,0 +1,111 @@
+package com.bookstore.limit;
+
+import com.bookstore.api.Endpoint;
+import com.bookstore.metrics.LatencyMetrics;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate and concurrency limits of one {@link Endpoint}, with queueing-delay metrics.
+ * Either limit may be absent (rate 0, adaptive limiting off).
+ */
+public final class EndpointLimiter {
+
+    private static final long MAX_RECORDED_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final Endpoint endpoint;
+    private final TokenBucket rate;
+    private final AimdLimiter concurrency;
+    private final Histogram queueDelay = LatencyMetrics.newHistogram();
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder delayed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    EndpointLimiter(Endpoint endpoint, TokenBucket rate, AimdLimiter concurrency) {
+        this.endpoint = endpoint;
+        this.rate = rate;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Waits for a rate token and a concurrency slot.
+     * @param maxWaitNanos Longest acceptable wait for both together
+     * @return Permit to release once the call has finished, or null if the wait would be too long
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public Permit acquire(long maxWaitNanos) throws InterruptedException {
+        long start = System.nanoTime();
+        if (rate != null) {
+            long wait = rate.reserve(maxWaitNanos);
+            if (wait < 0) {
+                timedOut.increment();
+                return null;
+            }
+            if (wait > 0) {
+                TimeUnit.NANOSECONDS.sleep(wait);
+            }
+        }
+        if (concurrency != null && !concurrency.acquire(maxWaitNanos - (System.nanoTime() - start))) {
+            timedOut.increment();
+            return null;
+        }
+        long waited = System.nanoTime() - start;
+        acquired.increment();
+        if (waited > TimeUnit.MICROSECONDS.toNanos(100)) {
+            delayed.increment();
+        }
+        queueDelay.recordValue(Math.max(1_000, Math.min(waited, MAX_RECORDED_NANOS)));
+        return new Permit(this, waited);
+    }
+
+    /**
+     * @return Current limits and queueing-delay percentiles
+     */
+    public LimiterStats stats() {
+        Histogram delays = queueDelay.copy();
+        return new LimiterStats(endpoint, rate == null ? 0 : rate.permitsPerSecond(),
+                concurrency == null ? 0 : concurrency.limit(), concurrency == null ? 0 : concurrency.inFlight(),
+                acquired.sum(), delayed.sum(), timedOut.sum(),
+                toMillis(delays.getValueAtPercentile(50)), toMillis(delays.getValueAtPercentile(99)),
+                toMillis(delays.getMaxValue()));
+    }
+
+    long acquiredCount() {
+        return acquired.sum();
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * A granted slot; release it exactly once with the call's outcome.
+     */
+    public static final class Permit {
+
+        private final EndpointLimiter limiter;
+        private final long queueDelayNanos;
+
+        private Permit(EndpointLimiter limiter, long queueDelayNanos) {
+            this.limiter = limiter;
+            this.queueDelayNanos = queueDelayNanos;
+        }
+
+        /** @return Time spent waiting for this permit */
+        public long queueDelayNanos() {
+            return queueDelayNanos;
+        }
+
+        /**
+         * @param status   HTTP status, or 0 if the call failed without a response
+         * @param rttNanos Duration of the call (excluding the queueing delay)
+         */
+        public void release(int status, long rttNanos) {
+            if (limiter.concurrency != null) {
+                limiter.concurrency.release(status, rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.bookstore.limit;
+
+import com.bookstore.api.Endpoint;
+
+import java.util.Locale;
+
+/**
+ * Point-in-time snapshot of one {@link EndpointLimiter}.
+ * Counters are cumulative since startup; delays are in milliseconds.
+ *
+ * @param endpoint         Limited endpoint
+ * @param ratePerSecond    Configured rate (0 = no rate limit)
+ * @param concurrencyLimit Current adaptive concurrency limit (0 = no concurrency limit)
+ * @param inFlight         Calls currently holding a slot
+ * @param acquired         Permits granted
+ * @param delayed          Permits that had to wait
+ * @param timedOut         Calls that gave up waiting for a permit
+ * @param queueDelayP50    Median wait for a permit
+ * @param queueDelayP99    99th percentile wait for a permit
+ * @param queueDelayMax    Longest wait for a permit
+ */
+public record LimiterStats(Endpoint endpoint, double ratePerSecond, int concurrencyLimit, int inFlight,
+                           long acquired, long delayed, long timedOut,
+                           double queueDelayP50, double queueDelayP99, double queueDelayMax) {
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "%s[rate=%.1f/s, limit=%d, inFlight=%d, acquired=%d, delayed=%d, timedOut=%d, queue p50=%.1fms p99=%.1fms max=%.1fms]",
+                endpoint.label(), ratePerSecond, concurrencyLimit, inFlight, acquired, delayed, timedOut,
+                queueDelayP50, queueDelayP99, queueDelayMax);
+    }
+}
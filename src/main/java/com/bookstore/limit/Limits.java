@@ -0,0 +1,116 @@
+package com.bookstore.limit;
+
+import com.bookstore.api.Endpoint;
+import com.bookstore.utils.Config;
+import com.bookstore.utils.ConfigException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Client-side rate and concurrency limits per {@link Endpoint}, so parallel and load runs cannot
+ * flatten an environment shared with other teams. Applied to every client call by {@code LimitFilter}.
+ * <p>
+ * Each endpoint gets a token bucket ({@link TokenBucket}) and/or an adaptive AIMD concurrency limit
+ * ({@link AimdLimiter}) that shrinks when responses slow down or fail and grows back while the backend keeps up.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>limit.enabled</b> - Turn limiting on (default false)</li>
+ *   <li><b>limit.rate</b> - Requests per second per endpoint, 0 for no rate limit (default 0)</li>
+ *   <li><b>limit.burst.size</b> - Requests that may be sent at once after an idle period (default: one second's worth)</li>
+ *   <li><b>limit.adaptive.enabled</b> - Adaptive concurrency limit on/off (default true)</li>
+ *   <li><b>limit.concurrency</b> / <b>limit.concurrency.min</b> / <b>limit.concurrency.max</b> - Initial, lowest
+ *       and highest concurrency limit (default 10 / 1 / 100)</li>
+ *   <li><b>limit.backoff.ratio</b> - Factor applied to the limit on overload, 0..1 (default 0.9)</li>
+ *   <li><b>limit.latency.threshold.ms</b> - Slower responses count as overload (default 1000)</li>
+ *   <li><b>limit.&lt;endpoint&gt;.*</b> - Per-endpoint overrides of any of the above except limit.enabled, where
+ *       &lt;endpoint&gt; is the {@link Endpoint} name in lower case with dots, e.g. limit.books.create.rate=5</li>
+ * </ul>
+ * </p>
+ */
+public final class Limits {
+
+    private static final boolean ENABLED = Config.get().getBoolean("limit.enabled", false);
+    private static final Map<Endpoint, EndpointLimiter> LIMITERS = ENABLED ? load(Config.get()) : Map.of();
+
+    private Limits() { }
+
+    /** @return true if limiting is enabled (limit.enabled) */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * @return Limiter of the endpoint, or null if the endpoint is not limited
+     */
+    public static EndpointLimiter of(Endpoint endpoint) {
+        return LIMITERS.get(endpoint);
+    }
+
+    /**
+     * @return Snapshot of every limiter that has been used, in endpoint order
+     */
+    public static List<LimiterStats> stats() {
+        List<LimiterStats> stats = new ArrayList<>();
+        for (EndpointLimiter limiter : LIMITERS.values()) {
+            if (limiter.acquiredCount() > 0) {
+                stats.add(limiter.stats());
+            }
+        }
+        return stats;
+    }
+
+    private static Map<Endpoint, EndpointLimiter> load(Config config) {
+        Map<Endpoint, EndpointLimiter> limiters = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            Settings settings = new Settings(config,
+                    "limit." + endpoint.name().toLowerCase(Locale.ROOT).replace('_', '.') + ".");
+            double rate = settings.getDouble("rate", 0);
+            TokenBucket bucket = rate > 0
+                    ? new TokenBucket(rate, settings.getPositiveInt("burst.size", (int) Math.max(1, Math.ceil(rate))))
+                    : null;
+            AimdLimiter concurrency = null;
+            if (settings.getBoolean("adaptive.enabled", true)) {
+                double backoff = settings.getDouble("backoff.ratio", 0.9);
+                if (backoff <= 0 || backoff >= 1) {
+                    throw new ConfigException("limit backoff.ratio of " + endpoint.label() + " must be between 0 and 1 but was " + backoff);
+                }
+                concurrency = new AimdLimiter(settings.getPositiveInt("concurrency", 10),
+                        settings.getPositiveInt("concurrency.min", 1), settings.getPositiveInt("concurrency.max", 100),
+                        backoff, settings.getDuration("latency.threshold.ms", Duration.ofSeconds(1)).toMillis());
+            }
+            if (bucket != null || concurrency != null) {
+                limiters.put(endpoint, new EndpointLimiter(endpoint, bucket, concurrency));
+            }
+        }
+        return limiters;
+    }
+
+    /**
+     * Reads "limit.&lt;endpoint&gt;.&lt;name&gt;", falling back to "limit.&lt;name&gt;", then to the default.
+     */
+    private record Settings(Config config, String prefix) {
+
+        double getDouble(String name, double defaultValue) {
+            return config.getDouble(prefix + name, config.getDouble("limit." + name, defaultValue));
+        }
+
+        int getPositiveInt(String name, int defaultValue) {
+            return config.getPositiveInt(prefix + name, config.getPositiveInt("limit." + name, defaultValue));
+        }
+
+        boolean getBoolean(String name, boolean defaultValue) {
+            return config.getBoolean(prefix + name, config.getBoolean("limit." + name, defaultValue));
+        }
+
+        Duration getDuration(String name, Duration defaultValue) {
+            return config.getDuration(prefix + name, config.getDuration("limit." + name, defaultValue));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.bookstore.limit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token-bucket rate limiter: refills at a fixed rate up to a burst capacity.
+ * <p>
+ * Callers reserve a token and are told how long to wait for it. Tokens may go negative, so
+ * concurrent callers queue up in reservation order instead of racing for the next refill.
+ * </p>
+ */
+final class TokenBucket {
+
+    private final double permitsPerSecond;
+    private final double capacity;
+    private final double nanosPerPermit;
+
+    /** Guarded by this. */
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double permitsPerSecond, int burst) {
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = burst;
+        this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / permitsPerSecond;
+        this.tokens = burst;
+        this.refilledAt = System.nanoTime();
+    }
+
+    /**
+     * Reserves one token.
+     * @param maxWaitNanos Longest acceptable wait
+     * @return Nanoseconds to wait before sending (0 if a token is available now),
+     *         or -1 if the wait would exceed maxWaitNanos (nothing is reserved then)
+     */
+    synchronized long reserve(long maxWaitNanos) {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) / nanosPerPermit);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        long wait = (long) Math.ceil((1 - tokens) * nanosPerPermit);
+        if (wait > maxWaitNanos) {
+            return -1;
+        }
+        tokens -= 1;
+        return wait;
+    }
+
+    double permitsPerSecond() {
+        return permitsPerSecond;
+    }
+}
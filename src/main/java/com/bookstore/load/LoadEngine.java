@@ -0,0 +1,188 @@
+package com.bookstore.load;
+
+import com.bookstore.contract.ContractSampler;
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a weighted {@link Scenario} of client calls according to a {@link LoadProfile}.
+ * <p>
+ * Steps are ordinary client calls ({@code BooksClient}, {@code AuthorsClient}), so a load run
+ * uses the same transport, specs and filters as the functional suite.
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   LoadReport report = LoadEngine.run(LoadOperations.fromConfig(), LoadProfile.fromConfig());
+ *   Allure.addAttachment("Load report", "text/plain", report.format());
+ * </code>
+ * </p>
+ */
+public final class LoadEngine {
+
+    /** Resolution of the open-model arrival schedule. */
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Scenario scenario;
+    private final LoadProfile profile;
+    private final Map<LoadStep, StepStats> stats = new IdentityHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+
+    private LoadEngine(Scenario scenario, LoadProfile profile) {
+        this.scenario = scenario;
+        this.profile = profile;
+        for (LoadStep step : scenario.getSteps()) {
+            stats.put(step, new StepStats(step.getName()));
+        }
+    }
+
+    /**
+     * Runs the scenario to completion (ramp-up, steady state, ramp-down) and blocks until done.
+     * @param scenario Weighted operations to execute
+     * @param profile  Workload model and phase durations
+     * @return Per-step statistics
+     */
+    public static LoadReport run(Scenario scenario, LoadProfile profile) {
+        LoadEngine engine = new LoadEngine(scenario, profile);
+        ContractSampler.reset();
+        long start = System.nanoTime();
+        if (profile.getModel() == LoadProfile.Model.OPEN) {
+            engine.runOpen(start);
+        } else {
+            engine.runClosed(start);
+        }
+        List<StepStats> steps = new ArrayList<>();
+        for (LoadStep step : scenario.getSteps()) {
+            steps.add(engine.stats.get(step));
+        }
+        return new LoadReport(profile, steps, Duration.ofNanos(System.nanoTime() - start), engine.dropped.sum(),
+                ContractSampler.stats());
+    }
+
+    // -- Open model: fixed arrival rate --
+
+    private void runOpen(long start) {
+        int workers = profile.getMaxConcurrency();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(workers * 10), daemonThreads("load-worker"), new ThreadPoolExecutor.AbortPolicy());
+        SplittableRandom random = new SplittableRandom();
+        long total = profile.getTotalDuration().toNanos();
+        double perTick = profile.getRatePerSecond() * TICK_NANOS / 1e9;
+        double due = 0;
+
+        // Accumulate expected arrivals tick by tick; each whole arrival is dispatched at its intended time.
+        for (long offset = 0; offset < total; offset += TICK_NANOS) {
+            due += perTick * profile.intensityAt(offset);
+            if (due < 1) {
+                continue;
+            }
+            long intendedStart = start + offset;
+            sleepUntil(intendedStart);
+            while (due >= 1) {
+                due -= 1;
+                LoadStep step = scenario.pick(random);
+                try {
+                    executor.execute(() -> execute(step, intendedStart));
+                } catch (RejectedExecutionException e) {
+                    dropped.increment();
+                }
+            }
+        }
+        executor.shutdown();
+        awaitTermination(executor);
+    }
+
+    // -- Closed model: N virtual users --
+
+    private void runClosed(long start) {
+        int users = profile.getUsers();
+        long rampUp = profile.getRampUp().toNanos();
+        long steadyEnd = rampUp + profile.getSteady().toNanos();
+        long rampDown = profile.getRampDown().toNanos();
+        long thinkNanos = profile.getThinkTime().toNanos();
+        CountDownLatch done = new CountDownLatch(users);
+        ThreadFactory threads = daemonThreads("load-user");
+
+        for (int i = 0; i < users; i++) {
+            // Users join evenly over ramp-up and leave in reverse order over ramp-down.
+            long joinAt = start + rampUp * i / users;
+            long leaveAt = start + steadyEnd + rampDown * (users - i) / users;
+            SplittableRandom random = new SplittableRandom(i);
+            Thread user = threads.newThread(() -> {
+                try {
+                    sleepUntil(joinAt);
+                    while (System.nanoTime() < leaveAt) {
+                        execute(scenario.pick(random), System.nanoTime());
+                        if (thinkNanos > 0) {
+                            LockSupport.parkNanos(thinkNanos);
+                        }
+                    }
+                } finally {
+                    done.countDown();
+                }
+            });
+            user.start();
+        }
+        try {
+            done.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // -- Helpers --
+
+    private void execute(LoadStep step, long intendedStart) {
+        int status;
+        try {
+            Response response = step.execute();
+            status = response.statusCode();
+        } catch (Exception e) { // includes checked I/O exceptions rethrown by RestAssured
+            status = -1;
+        }
+        stats.get(step).record(status, System.nanoTime() - intendedStart);
+    }
+
+    private static void sleepUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private static void awaitTermination(ThreadPoolExecutor executor) {
+        try {
+            while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // let in-flight calls finish
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread t = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,105 @@
+package com.bookstore.load;
+
+import com.bookstore.api.AuthorsClient;
+import com.bookstore.api.BooksClient;
+import com.bookstore.data.DataGenerator;
+import com.bookstore.model.Author;
+import com.bookstore.model.Book;
+import com.bookstore.utils.Config;
+import io.restassured.response.Response;
+
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Catalogue of client operations that can be used as load steps by name, and the
+ * config-driven scenario built from them.
+ * <p>
+ * <b>load.mix</b> lists "operation:weight" pairs, e.g.
+ * {@code getAllBooks:70,getBookById:20,addBook:10}. Read operations pick a random ID in
+ * 1..{@code load.id.max}; write operations use fresh IDs from {@code load.id.base} upwards,
+ * with bodies from {@link DataGenerator} (realistic, and reproducible for a given data.seed).
+ * </p>
+ */
+public final class LoadOperations {
+
+    private static final int ID_MAX = Config.get().getInt("load.id.max", 200);
+    private static final DataGenerator GENERATOR = DataGenerator.fromConfig();
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(Config.get().getInt("load.id.base", 500_000));
+
+    private static final Map<String, Supplier<Response>> OPERATIONS = Map.ofEntries(
+            Map.entry("getAllBooks", BooksClient::getAllBooks),
+            Map.entry("getBookById", () -> BooksClient.getBookById(randomId())),
+            Map.entry("addBook", () -> BooksClient.addBook(newBook())),
+            Map.entry("updateBook", () -> {
+                Book book = newBook();
+                return BooksClient.updateBook(randomId(), book);
+            }),
+            Map.entry("deleteBook", () -> BooksClient.deleteBook(randomId())),
+            Map.entry("getAllAuthors", AuthorsClient::getAllAuthors),
+            Map.entry("getAuthorById", () -> AuthorsClient.getAuthorById(randomId())),
+            Map.entry("addAuthor", () -> AuthorsClient.addAuthor(newAuthor())),
+            Map.entry("updateAuthor", () -> AuthorsClient.updateAuthor(randomId(), newAuthor())),
+            Map.entry("deleteAuthor", () -> AuthorsClient.deleteAuthor(randomId()))
+    );
+
+    private LoadOperations() { }
+
+    /**
+     * Looks up a named operation.
+     * @param name Operation name, e.g. "getAllBooks"
+     * @throws IllegalArgumentException for unknown names
+     */
+    public static Supplier<Response> get(String name) {
+        Supplier<Response> operation = OPERATIONS.get(name);
+        if (operation == null) {
+            throw new IllegalArgumentException("Unknown load operation '" + name + "'. Known: " + OPERATIONS.keySet());
+        }
+        return operation;
+    }
+
+    /**
+     * Builds the scenario described by {@code load.mix}.
+     */
+    public static Scenario fromConfig() {
+        return parse(Config.get().getString("load.mix", "getAllBooks:70,getBookById:20,addBook:10"));
+    }
+
+    /**
+     * Parses a mix such as "getAllBooks:70,getBookById:20,addBook:10".
+     */
+    public static Scenario parse(String mix) {
+        Scenario.Builder builder = Scenario.builder();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load.mix entry (expected name:weight): " + entry);
+            }
+            String name = parts[0].trim();
+            int weight;
+            try {
+                weight = Integer.parseInt(parts[1].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid load.mix entry (weight must be an integer): " + entry, e);
+            }
+            builder.step(name, weight, get(name));
+        }
+        return builder.build();
+    }
+
+    private static int randomId() {
+        return ThreadLocalRandom.current().nextInt(1, ID_MAX + 1);
+    }
+
+    private static Book newBook() {
+        int id = NEXT_ID.getAndIncrement();
+        return GENERATOR.book(id, id);
+    }
+
+    private static Author newAuthor() {
+        int id = NEXT_ID.getAndIncrement();
+        return GENERATOR.author(id, id);
+    }
+}
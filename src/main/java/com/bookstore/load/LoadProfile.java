@@ -0,0 +1,134 @@
+package com.bookstore.load;
+
+import com.bookstore.utils.Config;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Workload shape for a load run: model, intensity and phase durations.
+ * <p>
+ * <b>Models:</b>
+ * <ul>
+ *   <li><b>OPEN</b> - requests arrive at a fixed rate regardless of response times
+ *       (like real traffic); latency is measured from the intended start, so a slow server
+ *       cannot hide its own queueing (no coordinated omission).</li>
+ *   <li><b>CLOSED</b> - a fixed number of virtual users each run requests back-to-back
+ *       (with optional think time).</li>
+ * </ul>
+ * Intensity ramps linearly from zero during ramp-up, holds during steady state and
+ * ramps back to zero during ramp-down.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b> load.model (open|closed), load.rate (arrivals/s, open),
+ * load.users (closed), load.ramp.up.s, load.steady.s, load.ramp.down.s,
+ * load.max.concurrency (open), load.think.time.ms (closed).
+ * </p>
+ */
+public class LoadProfile {
+
+    public enum Model { OPEN, CLOSED }
+
+    private final Model model;
+    private final double ratePerSecond;
+    private final int users;
+    private final Duration rampUp;
+    private final Duration steady;
+    private final Duration rampDown;
+    private final int maxConcurrency;
+    private final Duration thinkTime;
+
+    public LoadProfile(Model model, double ratePerSecond, int users, Duration rampUp, Duration steady,
+                       Duration rampDown, int maxConcurrency, Duration thinkTime) {
+        if (model == Model.OPEN && ratePerSecond <= 0) {
+            throw new IllegalArgumentException("Open model needs load.rate > 0");
+        }
+        if (model == Model.CLOSED && users <= 0) {
+            throw new IllegalArgumentException("Closed model needs load.users > 0");
+        }
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("load.max.concurrency must be > 0");
+        }
+        this.model = model;
+        this.ratePerSecond = ratePerSecond;
+        this.users = users;
+        this.rampUp = rampUp;
+        this.steady = steady;
+        this.rampDown = rampDown;
+        this.maxConcurrency = maxConcurrency;
+        this.thinkTime = thinkTime;
+    }
+
+    /**
+     * Builds a profile from the load.* keys in config.properties.
+     */
+    public static LoadProfile fromConfig() {
+        Config config = Config.get();
+        return new LoadProfile(
+                config.getEnum("load.model", Model.class, Model.CLOSED),
+                config.getDouble("load.rate", 10),
+                config.getPositiveInt("load.users", 5),
+                config.getDuration("load.ramp.up.s", Duration.ofSeconds(5)),
+                config.getDuration("load.steady.s", Duration.ofSeconds(30)),
+                config.getDuration("load.ramp.down.s", Duration.ofSeconds(5)),
+                config.getPositiveInt("load.max.concurrency", 200),
+                config.getDuration("load.think.time.ms", Duration.ZERO));
+    }
+
+    /** @return Open (arrival rate) or closed (virtual users) model */
+    public Model getModel() { return model; }
+
+    /** @return Target arrivals per second during steady state (open model) */
+    public double getRatePerSecond() { return ratePerSecond; }
+
+    /** @return Number of virtual users at steady state (closed model) */
+    public int getUsers() { return users; }
+
+    /** @return Ramp-up duration */
+    public Duration getRampUp() { return rampUp; }
+
+    /** @return Steady-state duration */
+    public Duration getSteady() { return steady; }
+
+    /** @return Ramp-down duration */
+    public Duration getRampDown() { return rampDown; }
+
+    /** @return Max requests in flight at once (open model) */
+    public int getMaxConcurrency() { return maxConcurrency; }
+
+    /** @return Pause between two requests of the same virtual user (closed model) */
+    public Duration getThinkTime() { return thinkTime; }
+
+    /** @return Total duration of all three phases */
+    public Duration getTotalDuration() {
+        return rampUp.plus(steady).plus(rampDown);
+    }
+
+    /**
+     * Relative intensity (0..1) at a given offset into the run: linear ramp-up, flat steady state,
+     * linear ramp-down.
+     * @param elapsedNanos Time since the start of the run
+     */
+    double intensityAt(long elapsedNanos) {
+        long up = rampUp.toNanos();
+        long steadyEnd = up + steady.toNanos();
+        long end = steadyEnd + rampDown.toNanos();
+        if (elapsedNanos < 0 || elapsedNanos >= end) {
+            return 0;
+        }
+        if (elapsedNanos < up) {
+            return (double) elapsedNanos / up;
+        }
+        if (elapsedNanos < steadyEnd) {
+            return 1;
+        }
+        return (double) (end - elapsedNanos) / rampDown.toNanos();
+    }
+
+    @Override
+    public String toString() {
+        String intensity = model == Model.OPEN ? ratePerSecond + " req/s" : users + " users";
+        return String.format(Locale.ROOT, "%s model, %s, ramp-up %ds, steady %ds, ramp-down %ds",
+                model, intensity, rampUp.toSeconds(), steady.toSeconds(), rampDown.toSeconds());
+    }
+}
@@ -0,0 +1,96 @@
+package com.bookstore.load;
+
+import com.bookstore.contract.ContractStats;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of a {@link LoadEngine} run: per-step statistics plus overall throughput.
+ */
+public class LoadReport {
+
+    private final LoadProfile profile;
+    private final List<StepStats> steps;
+    private final Duration elapsed;
+    private final long droppedArrivals;
+    private final List<ContractStats> contracts;
+
+    LoadReport(LoadProfile profile, List<StepStats> steps, Duration elapsed, long droppedArrivals,
+               List<ContractStats> contracts) {
+        this.profile = profile;
+        this.steps = steps;
+        this.elapsed = elapsed;
+        this.droppedArrivals = droppedArrivals;
+        this.contracts = contracts;
+    }
+
+    /** @return Profile the run was executed with */
+    public LoadProfile getProfile() { return profile; }
+
+    /** @return Per-step statistics, in scenario order */
+    public List<StepStats> getSteps() { return steps; }
+
+    /** @return Wall-clock duration of the run */
+    public Duration getElapsed() { return elapsed; }
+
+    /** @return Open-model arrivals that could not be queued because the engine was saturated */
+    public long getDroppedArrivals() { return droppedArrivals; }
+
+    /** @return Sampled contract checks per endpoint (empty unless contract.sample.rate &gt; 0) */
+    public List<ContractStats> getContracts() { return contracts; }
+
+    /** @return Sampled responses that violated their contract */
+    public long getContractViolations() {
+        return contracts.stream().mapToLong(ContractStats::violated).sum();
+    }
+
+    /** @return Total completed calls across all steps */
+    public long getTotalCalls() {
+        return steps.stream().mapToLong(StepStats::getCalls).sum();
+    }
+
+    /** @return Total failed calls across all steps */
+    public long getTotalErrors() {
+        return steps.stream().mapToLong(StepStats::getErrors).sum();
+    }
+
+    /** @return Failed calls (plus dropped arrivals) as a fraction of all attempts */
+    public double getErrorRate() {
+        long attempts = getTotalCalls() + droppedArrivals;
+        return attempts == 0 ? 0 : (double) (getTotalErrors() + droppedArrivals) / attempts;
+    }
+
+    /** @return Completed calls per second over the whole run */
+    public double getThroughput() {
+        double seconds = elapsed.toNanos() / 1e9;
+        return seconds == 0 ? 0 : getTotalCalls() / seconds;
+    }
+
+    /**
+     * @return Human-readable summary table, one line per step
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "Load run: %s%n", profile));
+        sb.append(String.format(Locale.ROOT, "Elapsed %.1fs, %d calls, %.1f req/s, error rate %.2f%%, dropped %d%n",
+                elapsed.toMillis() / 1000.0, getTotalCalls(), getThroughput(), getErrorRate() * 100, droppedArrivals));
+        sb.append(String.format(Locale.ROOT, "%-20s %10s %8s %10s %10s %10s %10s  %s%n",
+                "step", "calls", "errors", "mean(ms)", "p50(ms)", "p99(ms)", "max(ms)", "statuses"));
+        for (StepStats step : steps) {
+            sb.append(String.format(Locale.ROOT, "%-20s %10d %8d %10.2f %10.2f %10.2f %10.2f  %s%n",
+                    step.getName(), step.getCalls(), step.getErrors(), step.getMeanMillis(), step.getPercentileMillis(50), step.getPercentileMillis(99),
+                    step.getMaxMillis(), step.getStatusCounts()));
+        }
+        for (ContractStats contract : contracts) {
+            sb.append(String.format(Locale.ROOT, "Contract %s%n", contract));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
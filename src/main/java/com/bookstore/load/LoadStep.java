@@ -0,0 +1,40 @@
+package com.bookstore.load;
+
+import io.restassured.response.Response;
+
+import java.util.function.Supplier;
+
+/**
+ * One weighted operation of a load {@link Scenario}, e.g. "getAllBooks" with weight 70.
+ * <p>
+ * The action is a plain client call (usually a method reference such as
+ * {@code BooksClient::getAllBooks}), so the load engine exercises exactly the same
+ * request path as the functional tests.
+ * </p>
+ */
+public class LoadStep {
+
+    private final String name;
+    private final int weight;
+    private final Supplier<Response> action;
+
+    public LoadStep(String name, int weight, Supplier<Response> action) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight of step '" + name + "' must be > 0, was " + weight);
+        }
+        this.name = name;
+        this.weight = weight;
+        this.action = action;
+    }
+
+    /** @return Step name used in reports */
+    public String getName() { return name; }
+
+    /** @return Relative weight within the scenario */
+    public int getWeight() { return weight; }
+
+    /** Executes the client call once. */
+    public Response execute() {
+        return action.get();
+    }
+}
@@ -0,0 +1,86 @@
+package com.bookstore.load;
+
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * Weighted mix of client operations driven by the {@link LoadEngine}.
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   Scenario mix = Scenario.builder()
+ *       .step("getAllBooks", 70, BooksClient::getAllBooks)
+ *       .step("getBookById", 20, () -&gt; BooksClient.getBookById(1))
+ *       .step("addBook", 10, () -&gt; BooksClient.addBook(book))
+ *       .build();
+ * </code>
+ * </p>
+ */
+public class Scenario {
+
+    private final List<LoadStep> steps;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private Scenario(List<LoadStep> steps) {
+        if (steps.isEmpty()) {
+            throw new IllegalArgumentException("A scenario needs at least one step");
+        }
+        this.steps = Collections.unmodifiableList(new ArrayList<>(steps));
+        this.cumulativeWeights = new int[steps.size()];
+        int sum = 0;
+        for (int i = 0; i < steps.size(); i++) {
+            sum += steps.get(i).getWeight();
+            cumulativeWeights[i] = sum;
+        }
+        this.totalWeight = sum;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /** @return Steps in declaration order */
+    public List<LoadStep> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Picks a step according to the configured weights.
+     * @param random Caller-owned random source (one per worker, so no contention)
+     * @return Selected step
+     */
+    public LoadStep pick(RandomGenerator random) {
+        int roll = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return steps.get(i);
+            }
+        }
+        return steps.get(steps.size() - 1);
+    }
+
+    public static class Builder {
+        private final List<LoadStep> steps = new ArrayList<>();
+
+        public Builder step(String name, int weight, Supplier<Response> action) {
+            steps.add(new LoadStep(name, weight, action));
+            return this;
+        }
+
+        public Builder step(LoadStep step) {
+            steps.add(step);
+            return this;
+        }
+
+        public Scenario build() {
+            return new Scenario(steps);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bookstore.load;
+
+import com.bookstore.metrics.LatencyMetrics;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters for one {@link LoadStep}: calls, errors, status codes and an HDR latency histogram.
+ * An error is a thrown exception (connection failure, timeout) or an HTTP status of 400 or above.
+ */
+public class StepStats {
+
+    private final String name;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final Histogram latency = LatencyMetrics.newHistogram();
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    StepStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @param status       HTTP status, or -1 if the call threw
+     * @param latencyNanos Time from the intended start to the end of the call
+     */
+    void record(int status, long latencyNanos) {
+        calls.increment();
+        latency.recordValue(Math.min(latencyNanos, latency.getHighestTrackableValue()));
+        if (status < 0 || status >= 400) {
+            errors.increment();
+        }
+        statusCounts.computeIfAbsent(status, s -> new LongAdder()).increment();
+    }
+
+    /** @return Step name */
+    public String getName() { return name; }
+
+    /** @return Number of completed calls */
+    public long getCalls() { return calls.sum(); }
+
+    /** @return Number of failed calls (exception or HTTP >= 400) */
+    public long getErrors() { return errors.sum(); }
+
+    /** @return Mean latency in milliseconds */
+    public double getMeanMillis() { return latency.getMean() / 1_000_000.0; }
+
+    /** @return Latency at the given percentile (0-100), in milliseconds */
+    public double getPercentileMillis(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1_000_000.0;
+    }
+
+    /** @return Max latency in milliseconds */
+    public double getMaxMillis() { return latency.getMaxValue() / 1_000_000.0; }
+
+    /** @return Calls per HTTP status (-1 = exception), sorted by status */
+    public Map<Integer, Long> getStatusCounts() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statusCounts.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+}
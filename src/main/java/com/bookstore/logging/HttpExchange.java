@@ -0,0 +1,68 @@
+package com.bookstore.logging;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * One logged request/response pair.
+ * <p>
+ * Headers and bodies are held as references to what the client already has in memory; they are
+ * rendered and truncated to {@code log.body.max.chars} only when {@link #format} is called, i.e. when
+ * the level writes them or a failure dump needs them.
+ * </p>
+ *
+ * @param method          HTTP method
+ * @param uri             Full request URI
+ * @param requestHeaders  Renders "Name: value" lines on demand
+ * @param requestBody     Request body (String, byte[] or any object with a useful toString()), or null
+ * @param status          Response status, or 0 if no response was received
+ * @param responseHeaders Renders "Name: value" lines on demand
+ * @param responseBody    Raw UTF-8 response body, or null
+ * @param error           Transport error message, or null
+ * @param nanos           Round-trip time
+ */
+public record HttpExchange(String method, String uri, Supplier<List<String>> requestHeaders, Object requestBody,
+                           int status, Supplier<List<String>> responseHeaders, byte[] responseBody, String error,
+                           long nanos) {
+
+    /** @return true for 4xx/5xx responses and transport errors */
+    public boolean failed() {
+        return error != null || status >= 400;
+    }
+
+    /** @return "GET http://host/api/v1/Books -> 200 (12.3 ms)" */
+    public String summary() {
+        return String.format(Locale.ROOT, "%s %s -> %s (%.1f ms)", method, uri,
+                error != null ? "ERROR " + error : String.valueOf(status), nanos / 1e6);
+    }
+
+    /**
+     * @param headers Include request and response headers
+     * @param bodies  Include request and response bodies
+     * @return Multi-line rendering of the exchange
+     */
+    public String format(boolean headers, boolean bodies) {
+        StringBuilder sb = new StringBuilder(summary());
+        if (headers) {
+            appendLines(sb, ">", requestHeaders.get());
+        }
+        if (bodies && requestBody != null) {
+            sb.append("\n> ").append(requestBody instanceof byte[]
+                    ? HttpLog.truncate((byte[]) requestBody) : HttpLog.truncate(requestBody.toString()));
+        }
+        if (headers) {
+            appendLines(sb, "<", responseHeaders.get());
+        }
+        if (bodies && responseBody != null && responseBody.length > 0) {
+            sb.append("\n< ").append(HttpLog.truncate(responseBody));
+        }
+        return sb.toString();
+    }
+
+    private static void appendLines(StringBuilder sb, String prefix, List<String> lines) {
+        for (String line : lines) {
+            sb.append('\n').append(prefix).append(' ').append(line);
+        }
+    }
+}
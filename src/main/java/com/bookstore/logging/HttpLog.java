@@ -0,0 +1,199 @@
+package com.bookstore.logging;
+
+import com.bookstore.utils.BodyText;
+import com.bookstore.utils.Config;
+
+import java.io.PrintStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Level-gated, bounded and asynchronous logging of HTTP exchanges.
+ * <p>
+ * Exchanges are handed over by {@code HttpLogFilter}. Depending on {@link LogLevel} they are
+ * written right away; in any case the last few are kept in a per-thread ring buffer so a failing
+ * test can dump exactly the traffic that led to the failure ({@link #dumpRecent}).
+ * Framework messages such as pool statistics or circuit breaker transitions go through the same
+ * output ({@link #event}). At the default level INFO a passing run writes only failed exchanges
+ * and events; one line per request starts at DEBUG.
+ * </p>
+ * <p>
+ * <b>Cost of the failure buffer:</b> a buffered {@link HttpExchange} holds references to the
+ * request's and response's headers and bodies, which the client has in memory anyway, so buffering
+ * copies and formats nothing. Headers are rendered and bodies decoded (up to
+ * {@code log.body.max.chars}) only when the buffer is dumped. In exchange the buffer keeps up to
+ * {@code log.buffer.size} responses per thread reachable until they are evicted or the next test
+ * clears it; for very large bodies lower {@code log.buffer.size}.
+ * </p>
+ * <p>
+ * Output is written by a single background thread from a bounded queue, so request threads never
+ * block on the console. If the queue is full, lines are dropped and counted rather than slowing
+ * the suite down.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>log.level</b> - TRACE, DEBUG, INFO, WARN, ERROR or OFF (default INFO)</li>
+ *   <li><b>log.body.max.chars</b> - Bodies longer than this are truncated (default 2048)</li>
+ *   <li><b>log.buffer.size</b> - Exchanges kept per thread for failure dumps, 0 disables (default 20)</li>
+ *   <li><b>log.queue.size</b> - Max lines waiting for the writer thread (default 10000)</li>
+ * </ul>
+ * </p>
+ */
+public final class HttpLog {
+
+    private static final LogLevel LEVEL = Config.get().getEnum("log.level", LogLevel.class, LogLevel.INFO);
+    private static final int BODY_MAX_CHARS = Config.get().getInt("log.body.max.chars", 2048);
+    private static final int BUFFER_SIZE = Config.get().getInt("log.buffer.size", 20);
+
+    private static final ThreadLocal<ArrayDeque<HttpExchange>> RECENT = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final BlockingQueue<String> QUEUE = new ArrayBlockingQueue<>(Config.get().getInt("log.queue.size", 10_000));
+    private static final LongAdder DROPPED = new LongAdder();
+    private static final PrintStream OUT = System.out;
+
+    static {
+        Thread writer = new Thread(HttpLog::drain, "http-log-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(HttpLog::flush, "http-log-flush"));
+    }
+
+    private HttpLog() { }
+
+    /** @return Configured level */
+    public static LogLevel level() {
+        return LEVEL;
+    }
+
+    /**
+     * @return true if exchanges need to be captured at all (written now or buffered for failures)
+     */
+    public static boolean isCapturing() {
+        return BUFFER_SIZE > 0 || LEVEL.enables(LogLevel.WARN);
+    }
+
+    /**
+     * Decodes at most {@code log.body.max.chars} of a raw body.
+     * @param body Raw UTF-8 body, or null
+     * @return Body text, possibly cut with a "...[n more bytes]" marker
+     */
+    public static String truncate(byte[] body) {
+        return BodyText.truncate(body, BODY_MAX_CHARS);
+    }
+
+    /**
+     * Truncates a body to {@code log.body.max.chars}.
+     * @param body Body text, or null
+     * @return Body, possibly cut with a "...[n more chars]" marker
+     */
+    public static String truncate(String body) {
+        if (body == null || body.length() <= BODY_MAX_CHARS) {
+            return body;
+        }
+        return body.substring(0, BODY_MAX_CHARS) + "...[" + (body.length() - BODY_MAX_CHARS) + " more chars]";
+    }
+
+    /**
+     * Logs an exchange according to the level and remembers it for {@link #dumpRecent}.
+     */
+    public static void log(HttpExchange exchange) {
+        if (BUFFER_SIZE > 0) {
+            ArrayDeque<HttpExchange> recent = RECENT.get();
+            if (recent.size() == BUFFER_SIZE) {
+                recent.removeFirst();
+            }
+            recent.addLast(exchange);
+        }
+        if (LEVEL == LogLevel.TRACE) {
+            enqueue(exchange.format(true, true));
+        } else if (LEVEL == LogLevel.DEBUG || (LEVEL.enables(LogLevel.WARN) && exchange.failed())) {
+            enqueue(exchange.summary());
+        }
+    }
+
+    /**
+     * Writes a framework message if {@code log.level} enables its level.
+     * @param level   WARN for problems, INFO for status and statistics
+     * @param source  Reporting component, e.g. "CircuitBreaker"
+     * @param message Message text
+     */
+    public static void event(LogLevel level, String source, String message) {
+        if (LEVEL.enables(level)) {
+            enqueue("[" + source + "] " + message);
+        }
+    }
+
+    /** Forgets the exchanges buffered on the current thread (e.g. at the start of a test). */
+    public static void clearRecent() {
+        RECENT.get().clear();
+    }
+
+    /**
+     * Writes the exchanges buffered on the current thread in full and clears the buffer.
+     * Unlike regular output, a dump is never dropped.
+     * @param title Heading, e.g. the failing test's name
+     */
+    public static void dumpRecent(String title) {
+        ArrayDeque<HttpExchange> recent = RECENT.get();
+        if (recent.isEmpty()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder("[HttpLog] ").append(title)
+                .append(" - last ").append(recent.size()).append(" exchange(s):");
+        for (HttpExchange exchange : recent) {
+            sb.append('\n').append(exchange.format(true, true));
+        }
+        recent.clear();
+        try {
+            QUEUE.put(sb.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void enqueue(String line) {
+        if (!QUEUE.offer(line)) {
+            DROPPED.increment();
+        }
+    }
+
+    private static void drain() {
+        List<String> batch = new ArrayList<>();
+        while (true) {
+            try {
+                String first = QUEUE.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                QUEUE.drainTo(batch, 255);
+                write(batch);
+                batch.clear();
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private static void flush() {
+        List<String> rest = new ArrayList<>();
+        QUEUE.drainTo(rest);
+        write(rest);
+    }
+
+    private static synchronized void write(List<String> lines) {
+        long dropped = DROPPED.sumThenReset();
+        if (dropped > 0) {
+            OUT.println("[HttpLog] " + dropped + " line(s) dropped (log queue full)");
+        }
+        for (String line : lines) {
+            OUT.println(line);
+        }
+        OUT.flush();
+    }
+}
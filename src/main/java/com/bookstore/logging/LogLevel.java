@@ -0,0 +1,23 @@
+package com.bookstore.logging;
+
+/**
+ * Verbosity of HTTP exchange logging, read from {@code log.level}.
+ * <ul>
+ *   <li><b>TRACE</b> - Every exchange with headers and bodies</li>
+ *   <li><b>DEBUG</b> - One summary line per exchange</li>
+ *   <li><b>INFO</b> - Summary lines for 4xx/5xx responses and I/O errors, plus status events</li>
+ *   <li><b>WARN</b> - Summary lines for 4xx/5xx responses and I/O errors, plus warning events</li>
+ *   <li><b>ERROR</b> / <b>OFF</b> - Nothing is written immediately</li>
+ * </ul>
+ * Framework messages ({@link HttpLog#event}) pass the same threshold.
+ * Independently of the level, recent exchanges are buffered and dumped when a test fails
+ * (see {@link HttpLog}).
+ */
+public enum LogLevel {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF;
+
+    /** @return true if messages of {@code level} pass this threshold */
+    public boolean enables(LogLevel level) {
+        return this != OFF && level.ordinal() >= ordinal();
+    }
+}
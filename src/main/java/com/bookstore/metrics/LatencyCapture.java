@@ -0,0 +1,67 @@
+package com.bookstore.metrics;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * Collects the latencies of client calls made on the current thread into a private histogram,
+ * in addition to the global {@link LatencyMetrics}.
+ * <p>
+ * Used to measure exactly the calls of one test (e.g. by {@code @MaxLatency}) without
+ * picking up traffic from other threads.
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   try (LatencyCapture capture = LatencyCapture.start()) {
+ *       BooksClient.getAllBooks();
+ *       long p99 = capture.histogram().getValueAtPercentile(99);
+ *   }
+ * </code>
+ * </p>
+ */
+public final class LatencyCapture implements AutoCloseable {
+
+    private static final ThreadLocal<LatencyCapture> CURRENT = new ThreadLocal<>();
+
+    private final Histogram histogram = LatencyMetrics.newHistogram();
+    private final LatencyCapture previous;
+
+    private LatencyCapture(LatencyCapture previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Starts capturing on the current thread. Captures nest; the innermost one receives values.
+     */
+    public static LatencyCapture start() {
+        LatencyCapture capture = new LatencyCapture(CURRENT.get());
+        CURRENT.set(capture);
+        return capture;
+    }
+
+    /**
+     * Adds a value to the active capture of the current thread, if any.
+     */
+    public static void record(long latencyNanos) {
+        LatencyCapture capture = CURRENT.get();
+        if (capture != null) {
+            capture.histogram.recordValue(LatencyMetrics.clamp(latencyNanos));
+        }
+    }
+
+    /** @return Latencies captured so far, in nanoseconds */
+    public Histogram histogram() {
+        return histogram;
+    }
+
+    /** Stops capturing and restores the enclosing capture, if any. */
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
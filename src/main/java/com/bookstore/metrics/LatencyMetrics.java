@@ -0,0 +1,110 @@
+package com.bookstore.metrics;
+
+import com.bookstore.api.Endpoint;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Process-wide latency histograms, one per endpoint and HTTP status, kept apart for first
+ * attempts and retries so that retried calls do not blur the latency of the first try.
+ * <p>
+ * Recording is lock-free and allocation-free once a histogram exists: the slot is found by
+ * array index (attempt kind x endpoint ordinal x status code) and the value goes into a pre-sized
+ * {@link ConcurrentHistogram}. Histograms are created lazily the first time an
+ * endpoint/status pair is seen.
+ * </p>
+ * <p>
+ * Values are tracked in nanoseconds from 1&micro;s to 1 minute with 3 significant digits;
+ * anything slower is clamped to the upper bound.
+ * </p>
+ */
+public final class LatencyMetrics {
+
+    /** Status slot used for calls that failed without an HTTP response. */
+    public static final int NO_RESPONSE = 0;
+
+    static final long LOWEST_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+    static final long HIGHEST_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int STATUS_SLOTS = 600;
+
+    private static final Endpoint[] ENDPOINTS = Endpoint.values();
+    private static final int RETRY_OFFSET = ENDPOINTS.length * STATUS_SLOTS;
+    private static final AtomicReferenceArray<Histogram> HISTOGRAMS = new AtomicReferenceArray<>(2 * RETRY_OFFSET);
+
+    private LatencyMetrics() { }
+
+    /**
+     * Records one call (first attempt).
+     * @param endpoint     Endpoint that was called
+     * @param status       HTTP status, or {@link #NO_RESPONSE} if the call threw
+     * @param latencyNanos Duration of the call
+     */
+    public static void record(Endpoint endpoint, int status, long latencyNanos) {
+        record(endpoint, status, latencyNanos, false);
+    }
+
+    /**
+     * Records one call.
+     * @param endpoint     Endpoint that was called
+     * @param status       HTTP status, or {@link #NO_RESPONSE} if the call threw
+     * @param latencyNanos Duration of the call
+     * @param retry        true if the call was a retry attempt
+     */
+    public static void record(Endpoint endpoint, int status, long latencyNanos, boolean retry) {
+        int slot = (retry ? RETRY_OFFSET : 0) + endpoint.ordinal() * STATUS_SLOTS
+                + (status > 0 && status < STATUS_SLOTS ? status : NO_RESPONSE);
+        Histogram histogram = HISTOGRAMS.get(slot);
+        if (histogram == null) {
+            histogram = createSlot(slot);
+        }
+        histogram.recordValue(clamp(latencyNanos));
+    }
+
+    /**
+     * @return Copies of all non-empty histograms, first attempts before retries, each ordered by endpoint then status
+     */
+    public static List<LatencySnapshot> snapshot() {
+        List<LatencySnapshot> result = new ArrayList<>();
+        for (int slot = 0; slot < HISTOGRAMS.length(); slot++) {
+            Histogram histogram = HISTOGRAMS.get(slot);
+            if (histogram != null && histogram.getTotalCount() > 0) {
+                int index = slot % RETRY_OFFSET;
+                result.add(new LatencySnapshot(ENDPOINTS[index / STATUS_SLOTS], index % STATUS_SLOTS,
+                        slot >= RETRY_OFFSET, histogram.copy()));
+            }
+        }
+        return result;
+    }
+
+    /** Clears all recorded values (e.g. between load phases). */
+    public static void reset() {
+        for (int slot = 0; slot < HISTOGRAMS.length(); slot++) {
+            Histogram histogram = HISTOGRAMS.get(slot);
+            if (histogram != null) {
+                histogram.reset();
+            }
+        }
+    }
+
+    /**
+     * @return A histogram with the same range and precision as the registry's
+     */
+    public static Histogram newHistogram() {
+        return new ConcurrentHistogram(LOWEST_NANOS, HIGHEST_NANOS, SIGNIFICANT_DIGITS);
+    }
+
+    static long clamp(long latencyNanos) {
+        return Math.max(LOWEST_NANOS, Math.min(latencyNanos, HIGHEST_NANOS));
+    }
+
+    private static Histogram createSlot(int slot) {
+        HISTOGRAMS.compareAndSet(slot, null, newHistogram());
+        return HISTOGRAMS.get(slot);
+    }
+}
@@ -0,0 +1,91 @@
+package com.bookstore.metrics;
+
+import com.bookstore.model.Json;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Renders {@link LatencyMetrics} as per-endpoint, per-status percentile tables (JSON and CSV).
+ * <p>
+ * Columns: endpoint, status, attempt ("first" or "retry"), count, mean, p50, p90, p99, p99.9, max (milliseconds).
+ * </p>
+ */
+public final class LatencyReport {
+
+    public static final String JSON_FILE = "latency-report.json";
+    public static final String CSV_FILE = "latency-report.csv";
+
+    private static final ObjectWriter WRITER = Json.MAPPER.writer(SerializationFeature.INDENT_OUTPUT);
+
+    private static final String[] COLUMNS = {"endpoint", "status", "attempt", "count", "mean_ms", "p50_ms", "p90_ms", "p99_ms", "p99_9_ms", "max_ms"};
+
+    private LatencyReport() { }
+
+    /**
+     * @return Report rows for the current metrics, first attempts before retries, each ordered by endpoint then status
+     */
+    public static List<Map<String, Object>> rows() {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (LatencySnapshot s : LatencyMetrics.snapshot()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put(COLUMNS[0], s.getEndpoint().label());
+            row.put(COLUMNS[1], s.getStatus());
+            row.put(COLUMNS[2], s.isRetry() ? "retry" : "first");
+            row.put(COLUMNS[3], s.getCount());
+            row.put(COLUMNS[4], round(s.getMeanMillis()));
+            row.put(COLUMNS[5], round(s.getPercentileMillis(50)));
+            row.put(COLUMNS[6], round(s.getPercentileMillis(90)));
+            row.put(COLUMNS[7], round(s.getPercentileMillis(99)));
+            row.put(COLUMNS[8], round(s.getPercentileMillis(99.9)));
+            row.put(COLUMNS[9], round(s.getMaxMillis()));
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /** @return The report as a JSON array */
+    public static String toJson() {
+        try {
+            return WRITER.writeValueAsString(rows());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to render latency report", e);
+        }
+    }
+
+    /** @return The report as CSV with a header line */
+    public static String toCsv() {
+        StringBuilder sb = new StringBuilder(String.join(",", COLUMNS)).append('\n');
+        for (Map<String, Object> row : rows()) {
+            List<String> cells = new ArrayList<>();
+            row.values().forEach(value -> cells.add(String.valueOf(value)));
+            sb.append(String.join(",", cells)).append('\n');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Writes {@value #JSON_FILE} and {@value #CSV_FILE} into the given directory.
+     * @return Path of the JSON file
+     */
+    public static Path write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Path json = directory.resolve(JSON_FILE);
+        Files.writeString(json, toJson(), StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve(CSV_FILE), toCsv(), StandardCharsets.UTF_8);
+        return json;
+    }
+
+    private static double round(double millis) {
+        return Double.parseDouble(String.format(Locale.ROOT, "%.3f", millis));
+    }
+}
@@ -0,0 +1,53 @@
+package com.bookstore.metrics;
+
+import com.bookstore.api.Endpoint;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Immutable view of one endpoint/status histogram, with the percentiles used in reports.
+ * All durations are returned in milliseconds.
+ */
+public class LatencySnapshot {
+
+    private final Endpoint endpoint;
+    private final int status;
+    private final boolean retry;
+    private final Histogram histogram;
+
+    LatencySnapshot(Endpoint endpoint, int status, boolean retry, Histogram histogram) {
+        this.endpoint = endpoint;
+        this.status = status;
+        this.retry = retry;
+        this.histogram = histogram;
+    }
+
+    /** @return Endpoint the values were recorded for */
+    public Endpoint getEndpoint() { return endpoint; }
+
+    /** @return HTTP status, or {@link LatencyMetrics#NO_RESPONSE} for failed calls */
+    public int getStatus() { return status; }
+
+    /** @return true if the values are retry attempts, false for first attempts */
+    public boolean isRetry() { return retry; }
+
+    /** @return Number of recorded calls */
+    public long getCount() { return histogram.getTotalCount(); }
+
+    /** @return Latency at the given percentile (0-100), in milliseconds */
+    public double getPercentileMillis(double percentile) {
+        return toMillis(histogram.getValueAtPercentile(percentile));
+    }
+
+    /** @return Mean latency in milliseconds */
+    public double getMeanMillis() { return histogram.getMean() / 1_000_000.0; }
+
+    /** @return Max latency in milliseconds */
+    public double getMaxMillis() { return toMillis(histogram.getMaxValue()); }
+
+    /** @return Underlying histogram copy (for merging or custom percentiles) */
+    public Histogram getHistogram() { return histogram; }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bookstore.model;
+
+import com.bookstore.utils.Config;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * The one Jackson {@link ObjectMapper} used for {@link Book} and {@link Author} payloads.
+ * <p>
+ * Shared by the RestAssured clients (request bodies, {@code response.as(Book.class)}, the typed
+ * {@code ...As} methods), the async clients and {@code JsonArrayReader}. An {@code ObjectMapper}
+ * is expensive to create but thread-safe once configured, and it caches serializers per type,
+ * so a single instance decodes much faster than a fresh one (or {@code jsonPath()}) per call.
+ * </p>
+ * <p>
+ * <b>Configuration:</b>
+ * <ul>
+ *   <li>Unknown properties are ignored, so new API fields do not break decoding.</li>
+ *   <li>Bean properties are accessed through bytecode-generated lambdas (Jackson Blackbird)
+ *       instead of reflection, unless json.blackbird=false.</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   List&lt;Book&gt; books = Json.read(bytes, Json.BOOK_LIST);
+ * </code>
+ * </p>
+ */
+public final class Json {
+
+    /** Shared mapper; configure nothing on it after startup. */
+    public static final ObjectMapper MAPPER = createMapper(Config.get().getBoolean("json.blackbird", true));
+
+    public static final JavaType BOOK = MAPPER.constructType(Book.class);
+    public static final JavaType BOOK_LIST = MAPPER.getTypeFactory().constructCollectionType(List.class, Book.class);
+    public static final JavaType AUTHOR = MAPPER.constructType(Author.class);
+    public static final JavaType AUTHOR_LIST = MAPPER.getTypeFactory().constructCollectionType(List.class, Author.class);
+
+    private Json() { }
+
+    /**
+     * Builds a mapper with the shared settings. Only benchmarks need a second instance.
+     * @param blackbird true to use generated property accessors instead of reflection
+     * @return New mapper
+     */
+    public static ObjectMapper createMapper(boolean blackbird) {
+        JsonMapper.Builder builder = JsonMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (blackbird) {
+            builder.addModule(new BlackbirdModule());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @param body JSON bytes
+     * @param type Target type, e.g. {@link #BOOK} or {@link #BOOK_LIST}
+     * @return Decoded value
+     * @throws UncheckedIOException if the body is not valid JSON for the type
+     */
+    public static <T> T read(byte[] body, JavaType type) {
+        try {
+            return MAPPER.readValue(body, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode JSON as " + type, e);
+        }
+    }
+
+    /**
+     * @param value Object to serialize
+     * @return JSON bytes
+     * @throws IllegalArgumentException if the value cannot be serialized
+     */
+    public static byte[] write(Object value) {
+        try {
+            return MAPPER.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+}
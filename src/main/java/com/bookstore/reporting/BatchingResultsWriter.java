@@ -0,0 +1,350 @@
+package com.bookstore.reporting;
+
+import com.bookstore.logging.HttpLog;
+import com.bookstore.logging.LogLevel;
+import io.qameta.allure.AllureResultsWriteException;
+import io.qameta.allure.AllureResultsWriter;
+import io.qameta.allure.internal.Allure2ModelJackson;
+import io.qameta.allure.internal.shadowed.jackson.databind.ObjectMapper;
+import io.qameta.allure.model.Attachment;
+import io.qameta.allure.model.FixtureResult;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+import io.qameta.allure.model.TestResultContainer;
+import io.qameta.allure.model.WithAttachments;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Allure results writer that queues results in memory and writes them in batches on a background thread.
+ * <p>
+ * Compared to Allure's default {@code FileSystemResultsWriter}:
+ * <ul>
+ *   <li>Test threads only enqueue; JSON serialization and file I/O happen on one writer thread,
+ *       in batches of up to {@code batchSize} or every {@code flushMillis}</li>
+ *   <li>Attachments with identical content (SHA-256) are stored once; results that reference a
+ *       duplicate are rewritten to point at the stored copy</li>
+ *   <li>Optionally everything goes into a single {@code <results dir>.zip} with the usual flat layout,
+ *       so {@code unzip} + {@code allure generate} reads it as a normal results directory</li>
+ * </ul>
+ * Installed by {@code AllureWriterSetup} (test sources). {@link #close()} must be called at the end of
+ * the run to flush the queue (a shutdown hook does it as a fallback).
+ * </p>
+ * <p>
+ * Producers never block indefinitely: a full queue is waited on for at most {@value #ENQUEUE_TIMEOUT_MS} ms.
+ * If the writer thread stops on an error, that error is kept and every later write fails fast with it
+ * instead of waiting for a queue that is no longer drained.
+ * </p>
+ */
+public final class BatchingResultsWriter implements AllureResultsWriter, AutoCloseable {
+
+    private static final Item POISON = new Item(null, null, null);
+    private static final long ENQUEUE_TIMEOUT_MS = 30_000;
+    private static final long CLOSE_TIMEOUT_MS = 60_000;
+
+    private final ObjectMapper mapper = Allure2ModelJackson.createMapper();
+    private final BlockingQueue<Item> queue;
+    private final int batchSize;
+    private final long flushMillis;
+    private final Sink sink;
+    private final Thread writer;
+
+    // Writer-thread state only
+    private final Map<String, String> storedByHash = new HashMap<>();
+    private final Map<String, String> aliases = new HashMap<>();
+    private final Set<String> stored = new HashSet<>();
+    private final Set<String> awaited = new HashSet<>();
+    private long duplicates;
+
+    private volatile boolean closed;
+    private volatile Throwable failure;
+
+    /**
+     * @param resultsDirectory Allure results directory (e.g. target/allure-results)
+     * @param archive          Write a single {@code <resultsDirectory>.zip} instead of individual files
+     * @param queueSize        Max pending items; writers wait (bounded) when it is full
+     * @param batchSize        Max items written per batch
+     * @param flushMillis      Max time an item waits in the queue
+     */
+    public BatchingResultsWriter(Path resultsDirectory, boolean archive, int queueSize, int batchSize, long flushMillis) {
+        this.queue = new LinkedBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        this.sink = archive ? new ZipSink(resultsDirectory.resolveSibling(resultsDirectory.getFileName() + ".zip"))
+                : new DirectorySink(resultsDirectory);
+        this.writer = new Thread(this::run, "allure-results-writer");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "allure-results-flush"));
+    }
+
+    @Override
+    public void write(TestResult testResult) {
+        enqueue(new Item(testResult.getUuid() + "-result.json", testResult, null));
+    }
+
+    @Override
+    public void write(TestResultContainer container) {
+        enqueue(new Item(container.getUuid() + "-container.json", container, null));
+    }
+
+    @Override
+    public void write(String source, InputStream attachment) {
+        try (InputStream in = attachment) {
+            enqueue(new Item(source, null, in.readAllBytes()));
+        } catch (IOException e) {
+            throw new AllureResultsWriteException("Could not read attachment " + source, e);
+        }
+    }
+
+    /**
+     * Writes everything still queued and releases the output. Further writes are rejected.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MS);
+            while (writer.isAlive() && !queue.offer(POISON, flushMillis, TimeUnit.MILLISECONDS)) {
+                if (System.nanoTime() - deadline > 0) {
+                    HttpLog.event(LogLevel.ERROR, "BatchingResultsWriter",
+                            "Gave up flushing: " + queue.size() + " result(s) still queued");
+                    return;
+                }
+            }
+            writer.join(Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) + 1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(Item item) {
+        if (closed) {
+            throw new IllegalStateException("Results writer is closed, dropping " + item.name);
+        }
+        try {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ENQUEUE_TIMEOUT_MS);
+            do {
+                checkWriter(item);
+                if (queue.offer(item, flushMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } while (System.nanoTime() - deadline < 0);
+            throw new IllegalStateException("Results queue still full after " + ENQUEUE_TIMEOUT_MS
+                    + " ms, dropping " + item.name);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AllureResultsWriteException("Interrupted while queuing " + item.name, e);
+        }
+    }
+
+    private void checkWriter(Item item) {
+        Throwable cause = failure;
+        if (cause != null) {
+            throw new AllureResultsWriteException("Results writer failed, dropping " + item.name, cause);
+        }
+        if (!writer.isAlive()) {
+            throw new IllegalStateException("Results writer stopped, dropping " + item.name);
+        }
+    }
+
+    // -- Writer thread --
+
+    private void run() {
+        List<Item> batch = new ArrayList<>(batchSize);
+        boolean done = false;
+        try {
+            while (!done) {
+                Item first = queue.poll(flushMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                for (Item item : batch) {
+                    if (item == POISON) {
+                        done = true;
+                    } else {
+                        writeItem(item);
+                    }
+                }
+                batch.clear();
+                sink.flush();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | RuntimeException e) {
+            failure = e;
+            queue.clear(); // nothing will write these; also frees producers waiting on a full queue
+            HttpLog.event(LogLevel.ERROR, "BatchingResultsWriter", "Writing results failed: " + e);
+        } finally {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                HttpLog.event(LogLevel.ERROR, "BatchingResultsWriter", "Could not close output: " + e);
+            }
+            if (duplicates > 0) {
+                HttpLog.event(LogLevel.INFO, "BatchingResultsWriter", duplicates + " duplicate attachment(s) stored once");
+            }
+        }
+    }
+
+    private void writeItem(Item item) throws IOException {
+        if (item.bytes != null) {
+            writeAttachment(item.name, item.bytes);
+        } else {
+            if (item.model instanceof TestResult) {
+                TestResult result = (TestResult) item.model;
+                remap(result);
+                remapSteps(result.getSteps());
+            } else {
+                TestResultContainer container = (TestResultContainer) item.model;
+                for (FixtureResult fixture : container.getBefores()) {
+                    remap(fixture);
+                    remapSteps(fixture.getSteps());
+                }
+                for (FixtureResult fixture : container.getAfters()) {
+                    remap(fixture);
+                    remapSteps(fixture.getSteps());
+                }
+            }
+            sink.put(item.name, mapper.writeValueAsBytes(item.model));
+        }
+    }
+
+    private void writeAttachment(String source, byte[] bytes) throws IOException {
+        String key = extension(source) + ":" + sha256(bytes);
+        String existing = storedByHash.putIfAbsent(key, source);
+        // A result that was already written may reference this file (attachment written after its test
+        // finished), so it has to exist under its own name.
+        boolean referenced = awaited.remove(source);
+        if (existing != null && !referenced) {
+            aliases.put(source, existing);
+            duplicates++;
+            return;
+        }
+        stored.add(source);
+        sink.put(source, bytes);
+    }
+
+    private void remapSteps(List<StepResult> steps) {
+        for (StepResult step : steps) {
+            remap(step);
+            remapSteps(step.getSteps());
+        }
+    }
+
+    private void remap(WithAttachments owner) {
+        for (Attachment attachment : owner.getAttachments()) {
+            String source = attachment.getSource();
+            String target = aliases.get(source);
+            if (target != null) {
+                attachment.setSource(target);
+            } else if (source != null && !stored.contains(source)) {
+                awaited.add(source);
+            }
+        }
+    }
+
+    private static String extension(String source) {
+        int dot = source.lastIndexOf('.');
+        return dot < 0 ? "" : source.substring(dot);
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Item(String name, Object model, byte[] bytes) { }
+
+    // -- Output --
+
+    private interface Sink {
+        void put(String name, byte[] bytes) throws IOException;
+
+        void flush() throws IOException;
+
+        void close() throws IOException;
+    }
+
+    private static final class DirectorySink implements Sink {
+        private final Path directory;
+
+        DirectorySink(Path directory) {
+            this.directory = directory;
+            try {
+                Files.createDirectories(directory);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not create " + directory, e);
+            }
+        }
+
+        @Override
+        public void put(String name, byte[] bytes) throws IOException {
+            Files.write(directory.resolve(name), bytes);
+        }
+
+        @Override
+        public void flush() { }
+
+        @Override
+        public void close() { }
+    }
+
+    private static final class ZipSink implements Sink {
+        private final ZipOutputStream zip;
+
+        ZipSink(Path file) {
+            try {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                OutputStream out = Files.newOutputStream(file);
+                this.zip = new ZipOutputStream(out);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not create " + file, e);
+            }
+        }
+
+        @Override
+        public void put(String name, byte[] bytes) throws IOException {
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write(bytes);
+            zip.closeEntry();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            zip.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            zip.close();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.bookstore.reporting;
+
+import com.bookstore.logging.HttpLog;
+import com.bookstore.logging.LogLevel;
+import com.bookstore.utils.BodyText;
+import com.bookstore.utils.Config;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.attachment.AttachmentData;
+import io.qameta.allure.attachment.FreemarkerAttachmentRenderer;
+import io.qameta.allure.attachment.http.HttpRequestAttachment;
+import io.qameta.allure.attachment.http.HttpResponseAttachment;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Attaches HTTP exchanges to the Allure report according to {@link ReportMode}.
+ * <p>
+ * On the request thread only the attachment entry is registered with the running test (cheap,
+ * and it has to happen there because Allure tracks the current test per thread). Rendering the
+ * HTML templates and writing the files is done by a background thread.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>report.http.mode</b> - OFF, FAILURES, SAMPLED or ALL (default FAILURES)</li>
+ *   <li><b>report.http.sample.rate</b> - Share of successful exchanges attached in SAMPLED mode (default 0.1)</li>
+ *   <li><b>report.http.body.max.chars</b> - Bodies are cut to this length (default 16384)</li>
+ *   <li><b>report.http.max.per.test</b> - Max exchanges attached to one test (default 20)</li>
+ *   <li><b>report.http.queue.size</b> - Pending renders before request threads render themselves (default 1000)</li>
+ * </ul>
+ * </p>
+ */
+public final class HttpReport {
+
+    private static final ReportMode MODE = Config.get().getEnum("report.http.mode", ReportMode.class, ReportMode.FAILURES);
+    private static final double SAMPLE_RATE = Config.get().getDouble("report.http.sample.rate", 0.1);
+    private static final int BODY_MAX_CHARS = Config.get().getInt("report.http.body.max.chars", 16_384);
+    private static final int MAX_PER_TEST = Config.get().getInt("report.http.max.per.test", 20);
+
+    private static final FreemarkerAttachmentRenderer REQUEST_TEMPLATE = new FreemarkerAttachmentRenderer("http-request.ftl");
+    private static final FreemarkerAttachmentRenderer RESPONSE_TEMPLATE = new FreemarkerAttachmentRenderer("http-response.ftl");
+
+    /** Exchanges of the current test, held back in FAILURES mode. */
+    private static final ThreadLocal<List<Exchange>> PENDING = ThreadLocal.withInitial(ArrayList::new);
+    private static final ThreadLocal<int[]> ATTACHED = ThreadLocal.withInitial(() -> new int[1]);
+
+    private static final ThreadPoolExecutor RENDERER = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(Config.get().getInt("report.http.queue.size", 1000)),
+            runnable -> {
+                Thread t = new Thread(runnable, "allure-http-renderer");
+                t.setDaemon(true);
+                return t;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+
+    private HttpReport() { }
+
+    /** @return Configured mode */
+    public static ReportMode mode() {
+        return MODE;
+    }
+
+    /**
+     * One captured request/response pair. The request body is already cut to size; the raw response
+     * body is only decoded (up to {@code report.http.body.max.chars}) if the exchange is attached.
+     * @param status       Response status, or 0 if no response was received
+     * @param responseBody Raw UTF-8 response body, or null
+     */
+    public record Exchange(String method, String url, Map<String, String> requestHeaders, String requestBody,
+                           int status, String statusLine, Map<String, String> responseHeaders, byte[] responseBody) { }
+
+    /**
+     * Cuts a body to {@code report.http.body.max.chars}.
+     */
+    public static String truncate(String body) {
+        if (body == null || body.length() <= BODY_MAX_CHARS) {
+            return body;
+        }
+        return body.substring(0, BODY_MAX_CHARS) + "\n...[" + (body.length() - BODY_MAX_CHARS) + " more chars]";
+    }
+
+    /**
+     * @param status Response status, or 0 for a transport error
+     * @return true if an exchange with this outcome should be captured at all: in the current mode, and
+     *         only while a test is running (cleanup and load workers are never reported)
+     */
+    public static boolean shouldCapture(int status) {
+        if (MODE == ReportMode.OFF || Allure.getLifecycle().getCurrentTestCase().isEmpty()) {
+            return false;
+        }
+        switch (MODE) {
+            case ALL:
+            case FAILURES:
+                return true;
+            case SAMPLED:
+                return status == 0 || status >= 400 || ThreadLocalRandom.current().nextDouble() < SAMPLE_RATE;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Records an exchange: attached now (ALL, SAMPLED) or held until the test fails (FAILURES).
+     * Exchanges made outside a running test (cleanup, load workers) are ignored.
+     */
+    public static void record(Exchange exchange) {
+        if (Allure.getLifecycle().getCurrentTestCase().isEmpty()) {
+            return;
+        }
+        if (MODE == ReportMode.FAILURES) {
+            List<Exchange> pending = PENDING.get();
+            if (pending.size() == MAX_PER_TEST) {
+                pending.remove(0);
+            }
+            pending.add(exchange);
+        } else {
+            attach(exchange);
+        }
+    }
+
+    /** Starts a new test on the current thread: forgets held exchanges and resets the per-test cap. */
+    public static void startTest() {
+        PENDING.get().clear();
+        ATTACHED.get()[0] = 0;
+    }
+
+    /** Attaches the exchanges held back for the current test (FAILURES mode). */
+    public static void attachPending() {
+        List<Exchange> pending = PENDING.get();
+        for (Exchange exchange : pending) {
+            attach(exchange);
+        }
+        pending.clear();
+    }
+
+    /**
+     * Waits until every queued attachment is written (end of run).
+     */
+    public static void awaitWritten(long timeout, TimeUnit unit) throws InterruptedException {
+        RENDERER.shutdown();
+        RENDERER.awaitTermination(timeout, unit);
+    }
+
+    private static void attach(Exchange exchange) {
+        int[] attached = ATTACHED.get();
+        if (attached[0] >= MAX_PER_TEST) {
+            return;
+        }
+        attached[0]++;
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String requestSource = lifecycle.prepareAttachment("Request", "text/html", ".html");
+        String responseSource = exchange.status() == 0 ? null
+                : lifecycle.prepareAttachment(exchange.statusLine(), "text/html", ".html");
+        RENDERER.execute(() -> {
+            write(lifecycle, requestSource, REQUEST_TEMPLATE, exchange, HttpReport::requestData);
+            if (responseSource != null) {
+                write(lifecycle, responseSource, RESPONSE_TEMPLATE, exchange, HttpReport::responseData);
+            }
+        });
+    }
+
+    private static AttachmentData requestData(Exchange exchange) {
+        HttpRequestAttachment.Builder builder = HttpRequestAttachment.Builder.create("Request", exchange.url())
+                .setMethod(exchange.method())
+                .setHeaders(exchange.requestHeaders());
+        if (exchange.requestBody() != null) {
+            builder.setBody(exchange.requestBody());
+        }
+        return builder.build();
+    }
+
+    private static AttachmentData responseData(Exchange exchange) {
+        HttpResponseAttachment.Builder builder = HttpResponseAttachment.Builder.create(exchange.statusLine())
+                .setUrl(exchange.url())
+                .setResponseCode(exchange.status())
+                .setHeaders(exchange.responseHeaders());
+        if (exchange.responseBody() != null) {
+            builder.setBody(BodyText.truncate(exchange.responseBody(), BODY_MAX_CHARS));
+        }
+        return builder.build();
+    }
+
+    private static void write(AllureLifecycle lifecycle, String source, FreemarkerAttachmentRenderer template,
+                              Exchange exchange, Function<Exchange, AttachmentData> data) {
+        try {
+            byte[] html = template.render(data.apply(exchange)).getContent().getBytes(StandardCharsets.UTF_8);
+            lifecycle.writeAttachment(source, new ByteArrayInputStream(html));
+        } catch (RuntimeException e) {
+            HttpLog.event(LogLevel.WARN, "HttpReport", "Could not write attachment " + source + ": " + e);
+        }
+    }
+}
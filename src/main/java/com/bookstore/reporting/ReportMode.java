@@ -0,0 +1,14 @@
+package com.bookstore.reporting;
+
+/**
+ * Which HTTP exchanges are attached to the Allure report, read from {@code report.http.mode}.
+ * <ul>
+ *   <li><b>OFF</b> - None</li>
+ *   <li><b>FAILURES</b> - Only the exchanges of tests that fail</li>
+ *   <li><b>SAMPLED</b> - A random share ({@code report.http.sample.rate}) plus every 4xx/5xx or I/O error</li>
+ *   <li><b>ALL</b> - Every exchange</li>
+ * </ul>
+ */
+public enum ReportMode {
+    OFF, FAILURES, SAMPLED, ALL
+}
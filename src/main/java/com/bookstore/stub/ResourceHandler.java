@@ -0,0 +1,287 @@
+package com.bookstore.stub;
+
+import com.bookstore.model.Json;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Serves one collection resource of the {@link StubServer}.
+ * <p>
+ * <b>Contract:</b>
+ * <ul>
+ *   <li>GET / - 200 with all records, ordered by ID</li>
+ *   <li>GET /{id} - 200 with the record, 404 if missing, 400 if the ID is not a number;
+ *       carries an {@code ETag} and answers a matching {@code If-None-Match} with 304.
+ *       With {@code ?slowBodyMs=n} the headers go out at once and the body trickles for n ms, or
+ *       until the client disconnects (for timeout tests, see {@link StubServer#openSlowResponses()})</li>
+ *   <li>POST / - 201 with the stored record, 409 if the ID already exists</li>
+ *   <li>PUT /{id} - 200 with the stored record, 404 if missing</li>
+ *   <li>DELETE /{id} - 200, 404 if missing</li>
+ *   <li>Bodies are validated first: malformed JSON, a non-object, a missing or non-positive
+ *       {@code id}, a blank required text field or a non-numeric numeric field give 400</li>
+ * </ul>
+ * All responses are {@code application/json}; errors carry {@code {"status": ..., "title": ...}}.
+ * </p>
+ */
+final class ResourceHandler implements HttpHandler {
+
+    private static final String CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final String SLOW_BODY_PARAM = "slowBodyMs=";
+    private static final AtomicInteger SLOW_RESPONSES = new AtomicInteger();
+
+    private final String requiredText;
+    private final List<String> numericFields;
+    private final ConcurrentNavigableMap<Integer, byte[]> records = new ConcurrentSkipListMap<>();
+
+    private ResourceHandler(String requiredText, List<String> numericFields) {
+        this.requiredText = requiredText;
+        this.numericFields = numericFields;
+    }
+
+    static ResourceHandler books() {
+        return new ResourceHandler("title", List.of("pageCount"));
+    }
+
+    static ResourceHandler authors() {
+        return new ResourceHandler("name", List.of());
+    }
+
+    void seed(ObjectNode record) {
+        records.put(record.get("id").intValue(), toBytes(record));
+    }
+
+    @Override
+    public void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = in.readAllBytes();
+            }
+            String path = exchange.getRequestURI().getPath().substring(exchange.getHttpContext().getPath().length());
+            if (path.endsWith("/")) {
+                path = path.substring(0, path.length() - 1);
+            }
+            String method = exchange.getRequestMethod();
+            if (path.isEmpty()) {
+                handleCollection(exchange, method, body);
+            } else if (path.indexOf('/', 1) < 0) {
+                handleItem(exchange, method, path.substring(1), body);
+            } else {
+                error(exchange, 404, "Not Found");
+            }
+        }
+    }
+
+    private void handleCollection(HttpExchange exchange, String method, byte[] body) throws IOException {
+        switch (method) {
+            case "GET":
+                send(exchange, 200, list());
+                break;
+            case "POST":
+                ObjectNode record = validate(exchange, body);
+                if (record == null) {
+                    return;
+                }
+                int id = record.get("id").intValue();
+                byte[] stored = toBytes(record);
+                if (records.putIfAbsent(id, stored) != null) {
+                    error(exchange, 409, "A record with id " + id + " already exists");
+                    return;
+                }
+                send(exchange, 201, stored);
+                break;
+            default:
+                error(exchange, 405, "Method Not Allowed");
+        }
+    }
+
+    private void handleItem(HttpExchange exchange, String method, String rawId, byte[] body) throws IOException {
+        int id;
+        try {
+            id = Integer.parseInt(rawId);
+        } catch (NumberFormatException e) {
+            error(exchange, 400, "The value '" + rawId + "' is not valid.");
+            return;
+        }
+        switch (method) {
+            case "GET":
+                byte[] found = records.get(id);
+                if (found == null) {
+                    error(exchange, 404, "Not Found");
+                } else {
+                    String etag = etag(found);
+                    exchange.getResponseHeaders().set("ETag", etag);
+                    long slowBodyMillis = slowBodyMillis(exchange);
+                    if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                        exchange.sendResponseHeaders(304, -1);
+                    } else if (slowBodyMillis > 0) {
+                        sendSlowly(exchange, found, slowBodyMillis);
+                    } else {
+                        send(exchange, 200, found);
+                    }
+                }
+                break;
+            case "PUT":
+                ObjectNode record = validate(exchange, body);
+                if (record == null) {
+                    return;
+                }
+                byte[] stored = toBytes(record.put("id", id));
+                if (records.replace(id, stored) == null) {
+                    error(exchange, 404, "Not Found");
+                } else {
+                    send(exchange, 200, stored);
+                }
+                break;
+            case "DELETE":
+                if (records.remove(id) == null) {
+                    error(exchange, 404, "Not Found");
+                } else {
+                    exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                break;
+            default:
+                error(exchange, 405, "Method Not Allowed");
+        }
+    }
+
+    /**
+     * @return The parsed record, or null after a 400 has been sent
+     */
+    private ObjectNode validate(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode node;
+        try {
+            node = Json.MAPPER.readTree(body);
+        } catch (JsonProcessingException e) {
+            error(exchange, 400, "Malformed JSON: " + e.getOriginalMessage());
+            return null;
+        }
+        if (node == null || !node.isObject()) {
+            error(exchange, 400, "Request body must be a JSON object");
+            return null;
+        }
+        JsonNode id = node.get("id");
+        if (id == null || !id.canConvertToInt() || !id.isIntegralNumber() || id.intValue() <= 0) {
+            error(exchange, 400, "The id field must be a positive integer");
+            return null;
+        }
+        JsonNode text = node.get(requiredText);
+        if (text == null || !text.isTextual() || text.textValue().isBlank()) {
+            error(exchange, 400, "The " + requiredText + " field is required");
+            return null;
+        }
+        for (String field : numericFields) {
+            JsonNode value = node.get(field);
+            if (value != null && !value.isNull() && !value.isNumber()) {
+                error(exchange, 400, "The " + field + " field must be a number");
+                return null;
+            }
+        }
+        return (ObjectNode) node;
+    }
+
+    private byte[] list() {
+        // Records are stored serialized, so the list is a plain concatenation.
+        int size = 2;
+        for (byte[] record : records.values()) {
+            size += record.length + 1;
+        }
+        byte[] out = new byte[size];
+        int pos = 0;
+        out[pos++] = '[';
+        for (byte[] record : records.values()) {
+            if (pos + record.length + 2 > out.length) {
+                break; // concurrent insert after sizing; the next GET will include it
+            }
+            if (pos > 1) {
+                out[pos++] = ',';
+            }
+            System.arraycopy(record, 0, out, pos, record.length);
+            pos += record.length;
+        }
+        out[pos++] = ']';
+        return pos == out.length ? out : Arrays.copyOf(out, pos);
+    }
+
+    private static byte[] toBytes(JsonNode node) {
+        try {
+            return Json.MAPPER.writeValueAsBytes(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize stub record", e);
+        }
+    }
+
+    /** Weak enough for a stub: the record bytes only change through PUT, which re-serializes them. */
+    private static String etag(byte[] record) {
+        return '"' + Integer.toHexString(Arrays.hashCode(record)) + '"';
+    }
+
+    /** @return Number of slow responses still being written */
+    static int slowResponses() {
+        return SLOW_RESPONSES.get();
+    }
+
+    private static long slowBodyMillis(HttpExchange exchange) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null || !query.startsWith(SLOW_BODY_PARAM)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(query.substring(SLOW_BODY_PARAM.length()));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    /** Sends the headers, then one byte of leading whitespace every 10ms until the time is up or the client is gone. */
+    private static void sendSlowly(HttpExchange exchange, byte[] body, long millis) throws IOException {
+        SLOW_RESPONSES.incrementAndGet();
+        try {
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            long end = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+            while (System.nanoTime() < end) {
+                out.write(' ');
+                out.flush();
+                Thread.sleep(10);
+            }
+            out.write(body);
+            out.close();
+        } catch (IOException e) {
+            // client disconnected
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            SLOW_RESPONSES.decrementAndGet();
+        }
+    }
+
+    private static void error(HttpExchange exchange, int status, String title) throws IOException {
+        ObjectNode problem = Json.MAPPER.createObjectNode().put("status", status).put("title", title);
+        send(exchange, status, toBytes(problem));
+    }
+
+    private static void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.bookstore.stub;
+
+import com.bookstore.api.Resource;
+import com.bookstore.model.Json;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process, in-memory Bookstore API for offline and high-speed suite runs.
+ * <p>
+ * Serves {@code /api/v1/Books} and {@code /api/v1/Authors} on the loopback interface using the
+ * JDK {@link HttpServer}, with the same contract the suites assert against the real service
+ * (see {@link ResourceHandler}). Data lives in memory and is seeded on start.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>stub.enabled</b> - Start the stub from BaseTest and point base.url at it (default false)</li>
+ *   <li><b>stub.port</b> - Listen port, 0 for any free port (default 0)</li>
+ *   <li><b>stub.threads</b> - Request handler threads (default 32)</li>
+ *   <li><b>stub.seed.books</b> / <b>stub.seed.authors</b> - Records present at start (default 200)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   StubServer stub = StubServer.start(0, 32, 200, 200);
+ *   RestAssured.baseURI = stub.baseUrl();
+ * </code>
+ * </p>
+ */
+public final class StubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private StubServer(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts a stub with freshly seeded data.
+     * @param port         Listen port on 127.0.0.1, or 0 for any free port
+     * @param threads      Request handler threads
+     * @param seedBooks    Number of books with IDs 1..seedBooks
+     * @param seedAuthors  Number of authors with IDs 1..seedAuthors
+     * @return Running server
+     */
+    public static StubServer start(int port, int threads, int seedBooks, int seedAuthors) {
+        // Without TCP_NODELAY, headers and body go out as two small segments and every response
+        // waits out the client's delayed ACK (~40ms). Read once by the JDK when the first server starts.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+        HttpServer server;
+        try {
+            server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start stub server on port " + port, e);
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, daemonThreads());
+        server.setExecutor(executor);
+
+        ResourceHandler books = ResourceHandler.books();
+        for (int id = 1; id <= seedBooks; id++) {
+            books.seed(book(id));
+        }
+        ResourceHandler authors = ResourceHandler.authors();
+        for (int id = 1; id <= seedAuthors; id++) {
+            authors.seed(author(id));
+        }
+        server.createContext(Resource.BOOKS.basePath(), books);
+        server.createContext(Resource.AUTHORS.basePath(), authors);
+        server.start();
+        return new StubServer(server, executor);
+    }
+
+    /** @return Base URL to use as base.url, e.g. "http://127.0.0.1:53127" */
+    public String baseUrl() {
+        InetSocketAddress address = server.getAddress();
+        return "http://" + address.getAddress().getHostAddress() + ":" + address.getPort();
+    }
+
+    /**
+     * @return Responses requested with {@code ?slowBodyMs=n} that are still being written, i.e. whose
+     *         client has neither read them to the end nor disconnected
+     */
+    public static int openSlowResponses() {
+        return ResourceHandler.slowResponses();
+    }
+
+    /** Stops accepting requests and shuts the handler threads down. */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static ObjectNode book(int id) {
+        return Json.MAPPER.createObjectNode()
+                .put("id", id)
+                .put("title", "Book " + id)
+                .put("description", "Seeded by StubServer")
+                .put("pageCount", id * 100)
+                .put("excerpt", "Excerpt of book " + id)
+                .put("publishDate", "2024-01-01T00:00:00Z");
+    }
+
+    private static ObjectNode author(int id) {
+        return Json.MAPPER.createObjectNode()
+                .put("id", id)
+                .put("name", "Author " + id)
+                .put("bio", "Seeded by StubServer")
+                .put("birthDate", "1980-01-01");
+    }
+
+    private static ThreadFactory daemonThreads() {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread t = new Thread(runnable, "stub-server-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
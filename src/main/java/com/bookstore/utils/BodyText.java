@@ -0,0 +1,35 @@
+package com.bookstore.utils;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Renders HTTP bodies for logs and reports without decoding more than is shown.
+ */
+public final class BodyText {
+
+    private BodyText() { }
+
+    /**
+     * Decodes at most {@code maxChars} characters of a UTF-8 body; the rest is never decoded.
+     * @param body     Raw body, or null
+     * @param maxChars Max characters to return
+     * @return Decoded text, cut with a "...[n more bytes]" marker if longer; null for a null body
+     */
+    public static String truncate(byte[] body, int maxChars) {
+        if (body == null) {
+            return null;
+        }
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        ByteBuffer in = ByteBuffer.wrap(body);
+        CharBuffer out = CharBuffer.allocate(Math.min(body.length, maxChars));
+        decoder.decode(in, out, true); // stops once out is full
+        out.flip();
+        return in.hasRemaining() ? out + "...[" + in.remaining() + " more bytes]" : out.toString();
+    }
+}
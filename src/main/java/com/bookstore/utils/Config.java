@@ -0,0 +1,392 @@
+package com.bookstore.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Typed, immutable configuration, resolved once at startup.
+ * <p>
+ * <b>Layers</b> (later wins):
+ * <ol>
+ *   <li>config.properties on the classpath</li>
+ *   <li>Environment variables: {@code BOOKSTORE_} + key in upper case with dots as underscores,
+ *       e.g. {@code BOOKSTORE_TIMEOUT_MS} for timeout.ms</li>
+ *   <li>JVM system properties with the same key, e.g. {@code -Dtimeout.ms=5000}</li>
+ * </ol>
+ * The merged values live in an immutable map, so reads are lock-free (unlike {@link Properties},
+ * a synchronized Hashtable). Values set with {@code System.setProperty} after startup are not seen.
+ * </p>
+ * <p>
+ * <b>Fail fast:</b> keys from config.properties and the environment are checked by naming convention
+ * while loading, and all problems are reported together in one {@link ConfigException}:
+ * <ul>
+ *   <li>{@code *.ms}, {@code *.s} - duration such as 250ms or 1.5s; a bare number is in the key's unit
+ *       (see {@link #getDuration})</li>
+ *   <li>{@code *.enabled} - true or false</li>
+ *   <li>{@code *.size}, {@code *.threads}, {@code *.users}, {@code *.entries}, {@code *.chars},
+ *       {@code *.count}, {@code *.concurrency}, {@code *.in.flight}, {@code *.max.total},
+ *       {@code *.max.per.*} - whole number &gt;= 1</li>
+ *   <li>{@code *.rate} - non-negative number</li>
+ *   <li>{@code *.port} - 0..65535</li>
+ *   <li>{@code *.statuses} - comma-separated HTTP status codes (100..599)</li>
+ *   <li>{@code *.limits} - comma-separated {@code name=max} entries, each max a whole number &gt;= 1</li>
+ * </ul>
+ * Typed accessors validate again, so keys outside these conventions fail on first read. Read duration
+ * keys only with {@link #getDuration}, so every reader accepts what validation accepts.
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   Duration ttl = Config.get().getDuration("cache.ttl.ms", Duration.ofSeconds(30));
+ *   LogLevel level = Config.get().getEnum("log.level", LogLevel.class, LogLevel.INFO);
+ * </code>
+ * </p>
+ */
+public final class Config {
+
+    /** Where a value came from; reported in error messages. */
+    public enum Source { FILE, ENV, SYSTEM }
+
+    static final String ENV_PREFIX = "BOOKSTORE_";
+
+    private static final Pattern MILLIS_OR_SECONDS = Pattern.compile(".*\\.(ms|s)$");
+    private static final Pattern BOOLEAN = Pattern.compile(".*\\.enabled$");
+    private static final Pattern POSITIVE = Pattern.compile(
+            ".*\\.(size|threads|users|entries|chars|count|concurrency|in\\.flight|max\\.total|max\\.per\\.[a-z]+)$");
+    private static final Pattern RATE = Pattern.compile(".*\\.rate$");
+    private static final Pattern PORT = Pattern.compile(".*\\.port$");
+    private static final Pattern STATUSES = Pattern.compile(".*\\.statuses$");
+    private static final Pattern LIMITS = Pattern.compile(".*\\.limits$");
+
+    private final Map<String, String> values;
+    private final Map<String, Source> sources;
+
+    private Config(Map<String, String> values, Map<String, Source> sources) {
+        this.values = Map.copyOf(values);
+        this.sources = Map.copyOf(sources);
+    }
+
+    private static final class Holder {
+        static final Config INSTANCE = load();
+    }
+
+    /**
+     * @return The configuration of this run, resolved on first use
+     * @throws ConfigException if config.properties is missing or any value is invalid
+     */
+    public static Config get() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Resolves the layers from config.properties, the environment and system properties.
+     * @throws ConfigException if config.properties is missing or any value is invalid
+     */
+    static Config load() {
+        Properties file = new Properties();
+        try (InputStream input = Config.class.getClassLoader().getResourceAsStream("config.properties")) {
+            if (input == null) {
+                throw new ConfigException("config.properties not found in classpath!");
+            }
+            file.load(input);
+        } catch (IOException e) {
+            throw new ConfigException("Failed to load config.properties!", e);
+        }
+        return of(file, System.getenv(), System.getProperties());
+    }
+
+    /**
+     * Merges and validates explicit layers (later wins).
+     */
+    static Config of(Properties file, Map<String, String> env, Properties system) {
+        Map<String, String> values = new HashMap<>();
+        Map<String, Source> sources = new HashMap<>();
+        for (String key : file.stringPropertyNames()) {
+            put(values, sources, key, file.getProperty(key), Source.FILE);
+        }
+        for (Map.Entry<String, String> entry : env.entrySet()) {
+            if (entry.getKey().startsWith(ENV_PREFIX)) {
+                String key = entry.getKey().substring(ENV_PREFIX.length()).toLowerCase(Locale.ROOT).replace('_', '.');
+                put(values, sources, key, entry.getValue(), Source.ENV);
+            }
+        }
+        for (String key : system.stringPropertyNames()) {
+            put(values, sources, key, system.getProperty(key), Source.SYSTEM);
+        }
+        Config config = new Config(values, sources);
+        // Keys that exist only as system properties are mostly JVM/Maven settings; they are validated on read
+        config.validate(key -> file.containsKey(key) || config.sources.get(key) == Source.ENV);
+        return config;
+    }
+
+    private static void put(Map<String, String> values, Map<String, Source> sources, String key, String value, Source source) {
+        if (value == null || value.isBlank()) {
+            // Blank means "use the default", also when it overrides a lower layer
+            values.remove(key);
+            sources.remove(key);
+        } else {
+            values.put(key, value.trim());
+            sources.put(key, source);
+        }
+    }
+
+    // -- Accessors --
+
+    /** @return Trimmed value, or empty if the key is missing or blank */
+    public Optional<String> find(String key) {
+        return Optional.ofNullable(values.get(key));
+    }
+
+    /** @return Trimmed value, or the default if the key is missing or blank */
+    public String getString(String key, String defaultValue) {
+        return values.getOrDefault(key, defaultValue);
+    }
+
+    /**
+     * @return The value, never blank
+     * @throws ConfigException if the key is missing or blank
+     */
+    public String require(String key) {
+        String value = values.get(key);
+        if (value == null) {
+            throw new ConfigException("Missing required config '" + key + "' (set it in config.properties, "
+                    + envName(key) + " or -D" + key + ")");
+        }
+        return value;
+    }
+
+    /** @throws ConfigException if the value is not a whole number */
+    public int getInt(String key, int defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw invalid(key, "an integer", e);
+        }
+    }
+
+    /** @throws ConfigException if the value is not a whole number */
+    public long getLong(String key, long defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw invalid(key, "a whole number", e);
+        }
+    }
+
+    /** @throws ConfigException if the value is not a number */
+    public double getDouble(String key, double defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw invalid(key, "a number", e);
+        }
+    }
+
+    /** @throws ConfigException if the value is neither "true" nor "false" (case-insensitive) */
+    public boolean getBoolean(String key, boolean defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw invalid(key, "true or false", null);
+    }
+
+    /**
+     * For pool sizes, thread counts and concurrency limits.
+     * @throws ConfigException if the value is not a whole number &gt;= 1
+     */
+    public int getPositiveInt(String key, int defaultValue) {
+        int value = getInt(key, defaultValue);
+        if (value < 1) {
+            throw invalid(key, "a whole number >= 1", null);
+        }
+        return value;
+    }
+
+    /**
+     * Reads a duration such as "250ms", "1.5s" or "2m" (see {@link Durations}). A bare number is in the
+     * unit named by the key: seconds for {@code *.s} keys (e.g. load.steady.s=30), otherwise milliseconds.
+     * @throws ConfigException if the value is not a valid, non-negative duration
+     */
+    public Duration getDuration(String key, Duration defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Durations.parse(value, key.endsWith(".s") ? ChronoUnit.SECONDS : ChronoUnit.MILLIS);
+        } catch (IllegalArgumentException e) {
+            throw invalid(key, "a duration (e.g. 250ms, 1.5s, 2m)", e);
+        }
+    }
+
+    /**
+     * @throws ConfigException if the value is not one of the constants (case-insensitive)
+     */
+    public <E extends Enum<E>> E getEnum(String key, Class<E> type, E defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw invalid(key, "one of " + List.of(type.getEnumConstants()), e);
+        }
+    }
+
+    /**
+     * Reads a comma-separated list of whole numbers, e.g. "502,503,504". Blank entries are skipped.
+     * @param min Smallest allowed entry
+     * @param max Largest allowed entry
+     * @throws ConfigException if an entry is not a whole number in min..max
+     */
+    public List<Integer> getIntList(String key, List<Integer> defaultValue, int min, int max) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        List<Integer> result = new ArrayList<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String expected = "a comma-separated list of whole numbers in " + min + ".." + max
+                    + " (bad entry '" + entry.trim() + "')";
+            int number;
+            try {
+                number = Integer.parseInt(entry.trim());
+            } catch (NumberFormatException e) {
+                throw invalid(key, expected, e);
+            }
+            if (number < min || number > max) {
+                throw invalid(key, expected, null);
+            }
+            result.add(number);
+        }
+        return result;
+    }
+
+    /**
+     * Reads comma-separated {@code name=max} entries, e.g. "http://host:8080=50". The name ends at the
+     * last '=', so it may contain '=' itself. Blank entries are skipped.
+     * @return Entries in the configured order; empty if the key is missing or blank
+     * @throws ConfigException if an entry has no name, or its max is not a whole number &gt;= 1
+     */
+    public Map<String, Integer> getPositiveIntMap(String key) {
+        Map<String, Integer> result = new LinkedHashMap<>();
+        String value = values.get(key);
+        if (value == null) {
+            return result;
+        }
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String expected = "comma-separated name=max entries with max >= 1 (bad entry '" + entry.trim() + "')";
+            int eq = entry.lastIndexOf('=');
+            if (eq < 0 || entry.substring(0, eq).isBlank()) {
+                throw invalid(key, expected, null);
+            }
+            int max;
+            try {
+                max = Integer.parseInt(entry.substring(eq + 1).trim());
+            } catch (NumberFormatException e) {
+                throw invalid(key, expected, e);
+            }
+            if (max < 1) {
+                throw invalid(key, expected, null);
+            }
+            result.put(entry.substring(0, eq).trim(), max);
+        }
+        return result;
+    }
+
+    /** @return Layer the key's value came from, or empty if it is not set */
+    public Optional<Source> sourceOf(String key) {
+        return Optional.ofNullable(sources.get(key));
+    }
+
+    // -- Validation --
+
+    private void validate(Predicate<String> applies) {
+        List<String> problems = new ArrayList<>();
+        values.keySet().stream().filter(applies).sorted().forEach(key -> {
+            try {
+                if (MILLIS_OR_SECONDS.matcher(key).matches()) {
+                    getDuration(key, Duration.ZERO);
+                } else if (BOOLEAN.matcher(key).matches()) {
+                    getBoolean(key, false);
+                } else if (POSITIVE.matcher(key).matches()) {
+                    getPositiveInt(key, 1);
+                } else if (RATE.matcher(key).matches()) {
+                    if (getDouble(key, 0) < 0) {
+                        throw invalid(key, "a non-negative number", null);
+                    }
+                } else if (PORT.matcher(key).matches()) {
+                    int port = getInt(key, 0);
+                    if (port < 0 || port > 65_535) {
+                        throw invalid(key, "a port (0..65535)", null);
+                    }
+                } else if (STATUSES.matcher(key).matches()) {
+                    getIntList(key, List.of(), 100, 599);
+                } else if (LIMITS.matcher(key).matches()) {
+                    getPositiveIntMap(key);
+                }
+            } catch (ConfigException e) {
+                problems.add(e.getMessage());
+            }
+        });
+        if (!problems.isEmpty()) {
+            throw new ConfigException("Invalid configuration:\n  " + String.join("\n  ", problems));
+        }
+    }
+
+    private ConfigException invalid(String key, String expected, Throwable cause) {
+        String message = "'" + key + "' must be " + expected + " but was '" + values.get(key) + "' (from " + sourceName(key) + ")";
+        return cause == null ? new ConfigException(message) : new ConfigException(message, cause);
+    }
+
+    private String sourceName(String key) {
+        Source source = sources.get(key);
+        if (source == Source.ENV) {
+            return "environment " + envName(key);
+        }
+        return source == Source.SYSTEM ? "system property" : "config.properties";
+    }
+
+    private static String envName(String key) {
+        return ENV_PREFIX + key.toUpperCase(Locale.ROOT).replace('.', '_');
+    }
+}
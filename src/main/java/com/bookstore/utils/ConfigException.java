@@ -0,0 +1,18 @@
+package com.bookstore.utils;
+
+/**
+ * Thrown when configuration is missing or has an invalid value.
+ * The message names the key, the value and the layer it came from.
+ */
+public class ConfigException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ConfigException(String message) {
+        super(message);
+    }
+
+    public ConfigException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,28 +1,50 @@
 package com.bookstore.utils;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.Properties;
-
 /**
  * Utility class for reading configuration properties.
- * Reads config.properties for environment and API settings.
+ * Thin static facade over {@link Config}, kept for existing callers: values are layered
+ * (config.properties, BOOKSTORE_* environment variables, JVM system properties such as
+ * -Dload.enabled=true), resolved once and read without locking. Framework code reads typed values
+ * through {@link Config} directly; duration keys ({@code *.ms}, {@code *.s}) must be read with
+ * {@link Config#getDuration}, as they may carry a unit (e.g. 1.5s).
  */
 public class ConfigReader {
-    private static final Properties properties = new Properties();
 
-    static {
-        try (InputStream input = ConfigReader.class.getClassLoader().getResourceAsStream("config.properties")) {
-            if (input == null) {
-                throw new RuntimeException("config.properties not found in classpath!");
-            }
-            properties.load(input);
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to load config.properties!", e);
-        }
+    public static String get(String key) {
+        return Config.get().find(key).orElse(null);
     }
 
-    public static String get(String key) {
-        return properties.getProperty(key);
+    /**
+     * Reads a property, falling back to a default when the key is missing or blank.
+     * @param key          Property key
+     * @param defaultValue Value returned when the key is not configured
+     * @return Trimmed property value or the default
+     */
+    public static String get(String key, String defaultValue) {
+        return Config.get().getString(key, defaultValue);
+    }
+
+    /**
+     * Reads an integer property.
+     * @throws ConfigException if the configured value is not a valid integer
+     */
+    public static int getInt(String key, int defaultValue) {
+        return Config.get().getInt(key, defaultValue);
+    }
+
+    /**
+     * Reads a long property.
+     * @throws ConfigException if the configured value is not a valid long
+     */
+    public static long getLong(String key, long defaultValue) {
+        return Config.get().getLong(key, defaultValue);
+    }
+
+    /**
+     * Reads a boolean property ("true"/"false", case-insensitive).
+     * @throws ConfigException if the configured value is neither
+     */
+    public static boolean getBoolean(String key, boolean defaultValue) {
+        return Config.get().getBoolean(key, defaultValue);
     }
-}
\ No newline at end of file
+}
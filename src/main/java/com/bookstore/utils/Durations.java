@@ -0,0 +1,58 @@
+package com.bookstore.utils;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+
+/**
+ * Parses human-friendly durations such as "200ms", "1.5s", "2m" or "750us".
+ * A bare number is read as milliseconds unless another unit is given.
+ */
+public final class Durations {
+
+    private Durations() { }
+
+    /**
+     * @param text Duration text, e.g. "200ms"
+     * @return Parsed duration
+     * @throws IllegalArgumentException if the text is not a valid, non-negative duration
+     */
+    public static Duration parse(String text) {
+        return parse(text, ChronoUnit.MILLIS);
+    }
+
+    /**
+     * @param text     Duration text, e.g. "200ms"
+     * @param bareUnit Unit of a number without unit, e.g. SECONDS for "30"
+     * @return Parsed duration
+     * @throws IllegalArgumentException if the text is not a valid, non-negative duration
+     */
+    public static Duration parse(String text, ChronoUnit bareUnit) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Duration must not be blank");
+        }
+        String value = text.trim().toLowerCase(Locale.ROOT);
+        int unitStart = 0;
+        while (unitStart < value.length() && (Character.isDigit(value.charAt(unitStart)) || value.charAt(unitStart) == '.')) {
+            unitStart++;
+        }
+        double amount;
+        try {
+            amount = Double.parseDouble(value.substring(0, unitStart));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid duration: '" + text + "'", e);
+        }
+        String unit = value.substring(unitStart).trim();
+        double nanosPerUnit;
+        switch (unit) {
+            case "ns": nanosPerUnit = 1; break;
+            case "us": nanosPerUnit = 1_000; break;
+            case "": nanosPerUnit = bareUnit.getDuration().toNanos(); break;
+            case "ms": nanosPerUnit = 1_000_000; break;
+            case "s": nanosPerUnit = 1_000_000_000; break;
+            case "m": nanosPerUnit = 60_000_000_000.0; break;
+            default: throw new IllegalArgumentException("Unknown duration unit in '" + text + "' (use ns, us, ms, s or m)");
+        }
+        return Duration.ofNanos(Math.round(amount * nanosPerUnit));
+    }
+}
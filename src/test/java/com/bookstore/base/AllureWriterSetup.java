@@ -0,0 +1,57 @@
+package com.bookstore.base;
+
+import com.bookstore.reporting.BatchingResultsWriter;
+import com.bookstore.utils.Config;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.util.PropertiesUtils;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestPlan;
+
+import java.nio.file.Paths;
+import java.time.Duration;
+
+/**
+ * <b>AllureWriterSetup</b> <br>
+ * Installs the {@link BatchingResultsWriter} as Allure's results writer for the whole test run.<br>
+ * <p>
+ * Registered as a test execution listener through META-INF/services. The Allure JUnit listener
+ * captures {@code Allure.getLifecycle()} in its constructor, so the lifecycle has to be replaced
+ * before that: listeners are loaded in classpath order and test-classes come first, hence the
+ * work is done in this constructor. The writer is flushed when the test plan finishes.
+ * </p>
+ * <p>
+ * <b>Settings (config.properties):</b>
+ * <ul>
+ *   <li><b>report.results.batched</b> - Use the batching writer (default true); false keeps Allure's own writer</li>
+ *   <li><b>report.results.archive</b> - Write one allure-results.zip instead of individual files (default false)</li>
+ *   <li><b>report.results.queue.size</b> / <b>report.results.batch.size</b> / <b>report.results.flush.ms</b></li>
+ * </ul>
+ * </p>
+ */
+public class AllureWriterSetup implements TestExecutionListener {
+
+    private final BatchingResultsWriter writer;
+
+    public AllureWriterSetup() {
+        Config config = Config.get();
+        if (!config.getBoolean("report.results.batched", true)) {
+            writer = null;
+            return;
+        }
+        String directory = PropertiesUtils.loadAllureProperties().getProperty("allure.results.directory", "allure-results");
+        writer = new BatchingResultsWriter(Paths.get(directory),
+                config.getBoolean("report.results.archive", false),
+                config.getPositiveInt("report.results.queue.size", 10_000),
+                config.getPositiveInt("report.results.batch.size", 500),
+                config.getDuration("report.results.flush.ms", Duration.ofSeconds(1)).toMillis());
+        Allure.setLifecycle(new AllureLifecycle(writer));
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.bookstore.base;
 
-import com.bookstore.utils.ConfigReader;
+import com.bookstore.api.HttpTransport;
+import com.bookstore.api.ResponseCache;
+import com.bookstore.api.Retry;
+import com.bookstore.api.RetryStats;
+import com.bookstore.limit.LimiterStats;
+import com.bookstore.limit.Limits;
+import com.bookstore.logging.HttpLog;
+import com.bookstore.logging.LogLevel;
+import com.bookstore.stub.StubServer;
+import com.bookstore.utils.Config;
 import io.restassured.RestAssured;
-import io.qameta.allure.restassured.AllureRestAssured; // Allure filter import
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
  * <b>BaseTest</b> <br>
@@ -12,26 +22,49 @@ import org.junit.jupiter.api.BeforeEach;
  * <ul>
  *   <li>Loads configuration from config.properties (e.g., base URL)</li>
  *   <li>Sets RestAssured's baseURI for all HTTP requests</li>
+ *   <li>Starts the in-memory {@link StubServer} instead when stub.enabled=true (offline runs)</li>
  *   <li>Provides request/response spec reset for clean test state</li>
- *   <li>Configures AllureRestAssured filter for reporting</li>
+ *   <li>Attaches HTTP exchanges to Allure per report.http.mode (see HttpReport)</li>
+ *   <li>Dumps the HTTP exchanges of a failing test (see log.level / HttpLog)</li>
+ *   <li>Reports shared connection pool usage after each test class</li>
+ *   <li>Deletes TestDataFactory data once at the end of the run</li>
+ *   <li>Publishes per-endpoint latency percentiles at the end of the run</li>
+ *   <li>Bounds every test by a shared deadline of timeout.test.ms (see DeadlineExtension)</li>
+ *   <li>Skips or aborts tests whose resource has an open circuit breaker (see CircuitBreakerExtension)</li>
  * </ul>
  * <p>
  * <b>Usage:</b> All API test classes should extend this class to inherit setup logic.
  * </p>
  */
+@ExtendWith({TestDataCleanupExtension.class, LatencyReportExtension.class, HttpLogExtension.class, HttpReportExtension.class,
+        DeadlineExtension.class, CircuitBreakerExtension.class})
 public abstract class BaseTest {
 
+    private static boolean initialized;
+    private static StubServer stub;
+
     /**
-     * Loads configuration, sets RestAssured base URI,
-     * and enables AllureRestAssured filter for reporting.
+     * Loads configuration and sets RestAssured base URI (starting the stub server if enabled).
+     * Allure reporting is handled by the shared filter in every client spec.
      * This method runs once before all tests in the test class.
      */
     @BeforeAll
-    public static void globalSetup() {
-        // Set the base URL for all API requests
-        RestAssured.baseURI = ConfigReader.get("base.url");
-        // Enable Allure reporting for every request/response
-        RestAssured.filters(new AllureRestAssured());
+    public static synchronized void globalSetup() {
+        // Runs once per JVM: test classes may start concurrently in parallel mode,
+        // and RestAssured's global configuration is not safe to modify while requests are in flight.
+        if (initialized) {
+            return;
+        }
+        // Set the base URL for all API requests: the real service, or the in-process stub
+        Config config = Config.get(); // fails fast on invalid settings
+        if (config.getBoolean("stub.enabled", false)) {
+            stub = StubServer.start(config.getInt("stub.port", 0), config.getPositiveInt("stub.threads", 32),
+                    config.getInt("stub.seed.books", 200), config.getInt("stub.seed.authors", 200));
+            RestAssured.baseURI = stub.baseUrl();
+        } else {
+            RestAssured.baseURI = config.require("base.url");
+        }
+        initialized = true;
     }
 
     /**
@@ -43,4 +76,25 @@ public abstract class BaseTest {
         RestAssured.requestSpecification = null;
         RestAssured.responseSpecification = null;
     }
+
+    /**
+     * Logs shared connection pool usage (leased/idle connections and lease wait times) at INFO
+     * once the test class has finished, so queuing on the pool is visible in the build log.
+     * Also logs response cache counters when the cache is enabled, limiter state and queueing delays per endpoint
+     * when limiting is enabled, and retry counters once anything was retried.
+     */
+    @AfterAll
+    public static void reportPoolUsage() {
+        HttpLog.event(LogLevel.INFO, "HttpTransport", HttpTransport.stats().toString());
+        if (ResponseCache.isEnabled()) {
+            HttpLog.event(LogLevel.INFO, "ResponseCache", ResponseCache.stats().toString());
+        }
+        for (LimiterStats limiter : Limits.stats()) {
+            HttpLog.event(LogLevel.INFO, "Limits", limiter.toString());
+        }
+        RetryStats retries = Retry.stats();
+        if (retries.retries() > 0) {
+            HttpLog.event(LogLevel.INFO, "Retry", retries.toString());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.bookstore.base;
+
+import com.bookstore.api.CircuitBreaker;
+import com.bookstore.api.CircuitOpenException;
+import com.bookstore.api.Resource;
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.TestAbortedException;
+
+import java.util.Optional;
+
+/**
+ * <b>CircuitBreakerExtension</b> <br>
+ * Turns open {@link CircuitBreaker}s into skipped and aborted tests instead of failures.<br>
+ * <ul>
+ *   <li>Before each test: skips it if a breaker of a resource named in {@link DependsOn} is open,
+ *       with the breaker's reason</li>
+ *   <li>During a test: a call rejected with {@link CircuitOpenException} aborts the test
+ *       (reported as skipped, with the reason) rather than failing it</li>
+ * </ul>
+ * The failures that opened the breaker are still reported by the tests that saw them.
+ */
+public class CircuitBreakerExtension implements ExecutionCondition, TestExecutionExceptionHandler {
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        if (!CircuitBreaker.isEnabled() || context.getTestMethod().isEmpty()) {
+            return ConditionEvaluationResult.enabled("No test method");
+        }
+        Optional<DependsOn> dependsOn = AnnotationSupport.findAnnotation(context.getTestMethod(), DependsOn.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getTestClass(), DependsOn.class));
+        if (dependsOn.isPresent()) {
+            for (Resource resource : dependsOn.get().value()) {
+                Optional<String> reason = CircuitBreaker.rejecting(resource);
+                if (reason.isPresent()) {
+                    return ConditionEvaluationResult.disabled(reason.get());
+                }
+            }
+        }
+        return ConditionEvaluationResult.enabled("No open circuit breaker");
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitOpenException) {
+                throw new TestAbortedException(cause.getMessage(), throwable);
+            }
+        }
+        throw throwable;
+    }
+}
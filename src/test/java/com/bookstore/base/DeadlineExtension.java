@@ -0,0 +1,45 @@
+package com.bookstore.base;
+
+import com.bookstore.api.Deadline;
+import com.bookstore.utils.Config;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+
+/**
+ * <b>DeadlineExtension</b> <br>
+ * Gives every test method a {@link Deadline} of {@code timeout.test.ms}.<br>
+ * <ul>
+ *   <li>All client calls of a multi-step flow (create &rarr; get &rarr; update &rarr; delete) share the budget,
+ *       so a slow backend fails the test with {@code DeadlineExceededException} instead of letting
+ *       each step wait out its own timeouts</li>
+ *   <li>Tests can open a tighter {@link Deadline} inside; it never extends this one</li>
+ *   <li>Cleanup in {@link TestDataCleanupExtension} runs outside the budget</li>
+ * </ul>
+ */
+public class DeadlineExtension implements InvocationInterceptor {
+
+    private static final Duration BUDGET = Config.get().getDuration("timeout.test.ms", Duration.ofMinutes(2));
+
+    @Override
+    public void interceptTestMethod(Invocation<Void> invocation,
+                                    ReflectiveInvocationContext<Method> invocationContext,
+                                    ExtensionContext extensionContext) throws Throwable {
+        Deadline deadline = Deadline.within(BUDGET);
+        try {
+            invocation.proceed();
+        } finally {
+            deadline.close();
+        }
+    }
+
+    @Override
+    public void interceptTestTemplateMethod(Invocation<Void> invocation,
+                                            ReflectiveInvocationContext<Method> invocationContext,
+                                            ExtensionContext extensionContext) throws Throwable {
+        interceptTestMethod(invocation, invocationContext, extensionContext);
+    }
+}
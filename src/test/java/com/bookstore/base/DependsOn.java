@@ -0,0 +1,34 @@
+package com.bookstore.base;
+
+import com.bookstore.api.Resource;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <b>DependsOn</b> <br>
+ * Declares the API resources a test class (or method) needs.<br>
+ * <p>
+ * While a circuit breaker of any of these resources is open, the tests are skipped with the
+ * breaker's reason instead of each one waiting for its own timeout (see {@link CircuitBreakerExtension}).
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   &#64;DependsOn(Resource.BOOKS)
+ *   public class BooksTest extends BaseTest { ... }
+ * </code>
+ * </p>
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+public @interface DependsOn {
+
+    /** Resources the tests call. */
+    Resource[] value();
+}
@@ -0,0 +1,30 @@
+package com.bookstore.base;
+
+import com.bookstore.logging.HttpLog;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+
+/**
+ * <b>HttpLogExtension</b> <br>
+ * Dumps the HTTP traffic of a failing test.<br>
+ * <ul>
+ *   <li>Clears the current thread's {@link HttpLog} buffer before each test</li>
+ *   <li>On an assertion failure or error, writes the buffered exchanges in full (headers and bodies),
+ *       then rethrows</li>
+ * </ul>
+ * Passing tests therefore cost no console output beyond what {@code log.level} asks for.
+ */
+public class HttpLogExtension implements BeforeEachCallback, TestExecutionExceptionHandler {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        HttpLog.clearRecent();
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        HttpLog.dumpRecent(context.getDisplayName() + " failed (" + throwable.getClass().getSimpleName() + ")");
+        throw throwable;
+    }
+}
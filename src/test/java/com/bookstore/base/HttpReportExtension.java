@@ -0,0 +1,46 @@
+package com.bookstore.base;
+
+import com.bookstore.reporting.HttpReport;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <b>HttpReportExtension</b> <br>
+ * Connects {@link HttpReport} to the test lifecycle.<br>
+ * <ul>
+ *   <li>Starts each test with an empty capture and a fresh attachment cap</li>
+ *   <li>Attaches the held-back exchanges of a failing test (report.http.mode=FAILURES)</li>
+ *   <li>Waits for background attachment rendering to finish at the end of the run</li>
+ * </ul>
+ */
+public class HttpReportExtension implements BeforeAllCallback, BeforeEachCallback, TestExecutionExceptionHandler {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot()
+                .getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(HttpReportExtension.class, key -> new PendingWrites(), PendingWrites.class);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        HttpReport.startTest();
+    }
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        HttpReport.attachPending();
+        throw throwable;
+    }
+
+    private static final class PendingWrites implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() throws InterruptedException {
+            HttpReport.awaitWritten(1, TimeUnit.MINUTES);
+        }
+    }
+}
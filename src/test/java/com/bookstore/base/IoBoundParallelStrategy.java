@@ -0,0 +1,45 @@
+package com.bookstore.base;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfiguration;
+import org.junit.platform.engine.support.hierarchical.ParallelExecutionConfigurationStrategy;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+/**
+ * <b>IoBoundParallelStrategy</b> <br>
+ * JUnit parallel execution strategy sized for I/O-bound API tests.<br>
+ * <p>
+ * JUnit's built-in "dynamic" strategy uses one worker per CPU core, which suits CPU-bound work.
+ * API tests spend almost all their time waiting on the network, so this strategy runs many more
+ * workers than cores. It is only used when parallel mode is switched on
+ * ({@code mvn test -Pparallel}); see junit-platform.properties.
+ * </p>
+ * <ul>
+ *   <li><b>bookstore.parallel.workers</b> - Concurrent test workers (default: 8 x CPU cores, at least 16)</li>
+ * </ul>
+ * <p>
+ * Test classes, their methods and parameterized rows all run concurrently: every test takes its
+ * own records from {@code TestDataFactory}, so no test depends on another one or on execution order.
+ * </p>
+ */
+public class IoBoundParallelStrategy implements ParallelExecutionConfigurationStrategy {
+
+    @Override
+    public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters parameters) {
+        int defaultWorkers = Math.max(16, Runtime.getRuntime().availableProcessors() * 8);
+        int workers = parameters.get("bookstore.parallel.workers", Integer::valueOf).orElse(defaultWorkers);
+        if (workers < 1) {
+            throw new IllegalArgumentException("bookstore.parallel.workers must be >= 1, was " + workers);
+        }
+        return new ParallelExecutionConfiguration() {
+            @Override public int getParallelism() { return workers; }
+            @Override public int getMinimumRunnable() { return 1; }
+            @Override public int getMaxPoolSize() { return workers + 256; }
+            @Override public int getCorePoolSize() { return workers; }
+            @Override public int getKeepAliveSeconds() { return 30; }
+            @Override public Predicate<? super ForkJoinPool> getSaturatePredicate() { return pool -> true; }
+        };
+    }
+}
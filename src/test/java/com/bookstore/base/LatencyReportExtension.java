@@ -0,0 +1,71 @@
+package com.bookstore.base;
+
+import com.bookstore.logging.HttpLog;
+import com.bookstore.logging.LogLevel;
+import com.bookstore.metrics.LatencyReport;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * <b>LatencyReportExtension</b> <br>
+ * Writes the per-endpoint latency percentiles (p50/p90/p99/p99.9/max) once at the end of the run.<br>
+ * <ul>
+ *   <li>target/latency-report.json and target/latency-report.csv</li>
+ *   <li>An Allure entry "Latency percentiles" (suite "Performance") with both files attached</li>
+ *   <li>The CSV table in the HTTP log at INFO level</li>
+ * </ul>
+ */
+public class LatencyReportExtension implements BeforeAllCallback {
+
+    private static final Path REPORT_DIR = Paths.get("target");
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot()
+                .getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(LatencyReportExtension.class, key -> new ReportWriter(), ReportWriter.class);
+    }
+
+    private static final class ReportWriter implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() throws IOException {
+            if (LatencyReport.rows().isEmpty()) {
+                return;
+            }
+            LatencyReport.write(REPORT_DIR);
+            HttpLog.event(LogLevel.INFO, "LatencyReport", "\n" + LatencyReport.toCsv());
+            attachToAllure(LatencyReport.toJson(), LatencyReport.toCsv());
+        }
+
+        /**
+         * The run is over, so there is no test to attach to; publish a dedicated result instead.
+         */
+        private void attachToAllure(String json, String csv) {
+            AllureLifecycle lifecycle = Allure.getLifecycle();
+            String uuid = UUID.randomUUID().toString();
+            lifecycle.scheduleTestCase(new TestResult()
+                    .setUuid(uuid)
+                    .setName("Latency percentiles")
+                    .setFullName(LatencyReport.class.getName())
+                    .setStatus(Status.PASSED)
+                    .setLabels(List.of(new Label().setName("suite").setValue("Performance"))));
+            lifecycle.startTestCase(uuid);
+            lifecycle.addAttachment("Latency percentiles (JSON)", "application/json", "json", json.getBytes(StandardCharsets.UTF_8));
+            lifecycle.addAttachment("Latency percentiles (CSV)", "text/csv", "csv", csv.getBytes(StandardCharsets.UTF_8));
+            lifecycle.stopTestCase(uuid);
+            lifecycle.writeTestCase(uuid);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.bookstore.base;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <b>MaxLatency</b> <br>
+ * Turns a functional test into a latency check: the test is a template invoked {@link #samples()} times,
+ * and the last invocation fails when a percentile of its client-call latencies exceeds the given budget.<br>
+ * <p>
+ * Replaces {@code @Test}. Budgets are durations such as "200ms" or "1.5s"; an empty value means "not checked".
+ * Invocations run one after another even in a concurrent class, and only calls made on the test thread
+ * are measured (see {@link MaxLatencyExtension}).
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   &#64;MaxLatency(p99 = "200ms", samples = 50)
+ *   void getAllBooks_shouldReturnList() { ... }
+ * </code>
+ * </p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@TestTemplate
+@Execution(ExecutionMode.SAME_THREAD)
+@ExtendWith(MaxLatencyExtension.class)
+public @interface MaxLatency {
+
+    /** Budget for the median. */
+    String p50() default "";
+
+    /** Budget for the 90th percentile. */
+    String p90() default "";
+
+    /** Budget for the 99th percentile. */
+    String p99() default "";
+
+    /** Budget for the slowest call. */
+    String max() default "";
+
+    /** Number of measured invocations of the test method. */
+    int samples() default 20;
+
+    /** Invocations executed first and not measured (connection setup, JIT). */
+    int warmup() default 1;
+}
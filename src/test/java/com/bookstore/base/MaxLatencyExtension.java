@@ -0,0 +1,155 @@
+package com.bookstore.base;
+
+import com.bookstore.metrics.LatencyCapture;
+import com.bookstore.metrics.LatencyMetrics;
+import com.bookstore.utils.Durations;
+import io.qameta.allure.Allure;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionConfigurationException;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * <b>MaxLatencyExtension</b> <br>
+ * Enforces {@link MaxLatency} budgets.<br>
+ * <ul>
+ *   <li>Provides {@code warmup} unmeasured and then {@code samples} measured invocations of the test
+ *       template; each is a regular JUnit invocation with its own lifecycle methods, interceptors and
+ *       test data cleanup.</li>
+ *   <li>Measures every client call made by the test method via {@link LatencyCapture}; if the test
+ *       makes no client calls, the duration of each run is used instead.</li>
+ *   <li>After the last sample, attaches the percentile breakdown to Allure and fails that invocation
+ *       listing every blown budget.</li>
+ * </ul>
+ */
+public class MaxLatencyExtension implements TestTemplateInvocationContextProvider {
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return context.getTestMethod()
+                .map(method -> AnnotationSupport.isAnnotated(method, MaxLatency.class))
+                .orElse(false);
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        MaxLatency budget = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxLatency.class)
+                .orElseThrow();
+        if (budget.samples() < 1 || budget.warmup() < 0) {
+            throw new ExtensionConfigurationException("@MaxLatency needs samples >= 1 and warmup >= 0");
+        }
+        Samples samples = new Samples(budget);
+        return Stream.concat(
+                IntStream.rangeClosed(1, budget.warmup()).mapToObj(i -> invocation(
+                        "warmup " + i + "/" + budget.warmup(), List.of())),
+                IntStream.rangeClosed(1, budget.samples()).mapToObj(i -> invocation(
+                        "sample " + i + "/" + budget.samples(), List.of(new Sample(samples, i == budget.samples())))));
+    }
+
+    private static TestTemplateInvocationContext invocation(String name, List<Extension> extensions) {
+        return new TestTemplateInvocationContext() {
+            @Override
+            public String getDisplayName(int invocationIndex) {
+                return name;
+            }
+
+            @Override
+            public List<Extension> getAdditionalExtensions() {
+                return extensions;
+            }
+        };
+    }
+
+    /** Latencies of all measured invocations of one template. Invocations run one after another. */
+    private static final class Samples {
+        final MaxLatency budget;
+        final Histogram runs = LatencyMetrics.newHistogram();
+        final Histogram calls = LatencyMetrics.newHistogram();
+
+        Samples(MaxLatency budget) {
+            this.budget = budget;
+        }
+    }
+
+    /** Measures one invocation around the test method only, and checks the budget after the last one. */
+    private static final class Sample implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+        private final Samples samples;
+        private final boolean last;
+        private LatencyCapture capture;
+        private long start;
+
+        Sample(Samples samples, boolean last) {
+            this.samples = samples;
+            this.last = last;
+        }
+
+        @Override
+        public void beforeTestExecution(ExtensionContext context) {
+            capture = LatencyCapture.start();
+            start = System.nanoTime();
+        }
+
+        @Override
+        public void afterTestExecution(ExtensionContext context) {
+            samples.runs.recordValue(Math.max(1, System.nanoTime() - start));
+            capture.close();
+            samples.calls.add(capture.histogram());
+            if (last) {
+                boolean perCall = samples.calls.getTotalCount() > 0;
+                check(samples.budget, perCall ? samples.calls : samples.runs, perCall ? "client calls" : "test runs");
+            }
+        }
+    }
+
+    private static void check(MaxLatency budget, Histogram histogram, String measured) {
+        List<String> violations = new ArrayList<>();
+        verify("p50", budget.p50(), histogram.getValueAtPercentile(50), violations);
+        verify("p90", budget.p90(), histogram.getValueAtPercentile(90), violations);
+        verify("p99", budget.p99(), histogram.getValueAtPercentile(99), violations);
+        verify("max", budget.max(), histogram.getMaxValue(), violations);
+
+        String breakdown = String.format(Locale.ROOT,
+                "%d %s over %d samples: p50=%s p90=%s p99=%s p99.9=%s max=%s",
+                histogram.getTotalCount(), measured, budget.samples(),
+                ms(histogram.getValueAtPercentile(50)), ms(histogram.getValueAtPercentile(90)),
+                ms(histogram.getValueAtPercentile(99)), ms(histogram.getValueAtPercentile(99.9)),
+                ms(histogram.getMaxValue()));
+        Allure.addAttachment("Latency budget", "text/plain",
+                breakdown + (violations.isEmpty() ? "\nWithin budget" : "\nExceeded: " + String.join(", ", violations)));
+
+        if (!violations.isEmpty()) {
+            throw new AssertionFailedError("Latency budget exceeded: " + String.join(", ", violations) + "\n" + breakdown);
+        }
+    }
+
+    private static void verify(String name, String limit, long actualNanos, List<String> violations) {
+        if (limit.isBlank()) {
+            return;
+        }
+        long limitNanos;
+        try {
+            limitNanos = Durations.parse(limit).toNanos();
+        } catch (IllegalArgumentException e) {
+            throw new ExtensionConfigurationException("@MaxLatency(" + name + " = \"" + limit + "\"): " + e.getMessage(), e);
+        }
+        if (actualNanos > limitNanos) {
+            violations.add(name + " " + ms(actualNanos) + " > " + limit);
+        }
+    }
+
+    private static String ms(long nanos) {
+        return String.format(Locale.ROOT, "%.1fms", nanos / 1e6);
+    }
+}
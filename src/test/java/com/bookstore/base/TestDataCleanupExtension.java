@@ -0,0 +1,37 @@
+package com.bookstore.base;
+
+import com.bookstore.data.TestDataFactory;
+import com.bookstore.logging.HttpLog;
+import com.bookstore.logging.LogLevel;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+
+/**
+ * <b>TestDataCleanupExtension</b> <br>
+ * Deletes all test data handed out by {@link TestDataFactory} once, at the very end of the run.<br>
+ * <p>
+ * Registers a closeable resource in the root extension store; JUnit closes it after the last
+ * test class finishes, so cleanup runs exactly once even when classes execute in parallel.
+ * </p>
+ */
+public class TestDataCleanupExtension implements BeforeAllCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        context.getRoot()
+                .getStore(ExtensionContext.Namespace.GLOBAL)
+                .getOrComputeIfAbsent(TestDataCleanupExtension.class, key -> new BulkCleanup(), BulkCleanup.class);
+    }
+
+    private static final class BulkCleanup implements ExtensionContext.Store.CloseableResource {
+        @Override
+        public void close() {
+            List<String> failures = TestDataFactory.cleanup();
+            if (!failures.isEmpty()) {
+                HttpLog.event(LogLevel.WARN, "TestDataFactory", "Could not delete: " + failures);
+            }
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.bookstore.data;
 
+import com.bookstore.utils.Config;
 import org.junit.jupiter.params.provider.Arguments;
+
 import java.util.stream.Stream;
 
 /**
  * Provides all POST/PUT body test data for Authors API.
  * Arguments: id, name, bio, birthDate, testCaseDesc, expectedStatus
  * Test cases are grouped by priority: P1 (must-have) first, P2 (should-have) below.
+ * IDs come from {@link TestDataFactory}, so rows never collide with each other or with parallel tests.
  */
 public class AuthorTestDataProvider {
 
@@ -16,28 +19,28 @@ public class AuthorTestDataProvider {
                 // --- Priority: P1 ---
 
                 // TC02 - Create author, valid happy path
-                Arguments.of(6001, "TC02 Happy Path", "Author bio", "1980-01-01",
+                Arguments.of(TestDataFactory.nextId(), "TC02 Happy Path", "Author bio", "1980-01-01",
                         "TC02 (P1): Create new author - all fields valid", 201),
 
                 // TC16 - Create author missing required field (name)
-                Arguments.of(6002, null, "No name field", "1990-02-02",
+                Arguments.of(TestDataFactory.nextId(), null, "No name field", "1990-02-02",
                         "TC16 (P1): Missing required name", 400),
 
                 // TC22 - Create author with blank/space name
-                Arguments.of(6003, "", "Blank name", "1985-05-05",
+                Arguments.of(TestDataFactory.nextId(), "", "Blank name", "1985-05-05",
                         "TC22 (P1): Name is empty string", 400),
-                Arguments.of(6004, "   ", "Name with spaces only", "1986-06-06",
+                Arguments.of(TestDataFactory.nextId(), "   ", "Name with spaces only", "1986-06-06",
                         "TC22 (P1): Name spaces only", 400)
             ),
             Stream.of(
                 // --- Priority: P2 ---
 
                 // TC07 - Create author, all valid fields
-                Arguments.of(6101, "TC07 All Valid", "All valid fields", "1975-12-31",
+                Arguments.of(TestDataFactory.nextId(), "TC07 All Valid", "All valid fields", "1975-12-31",
                         "TC07 (P2): Create new author, all valid", 201),
 
                 // TC08 - Update existing author with new data
-                Arguments.of(6102, "TC08 Update", "Updated bio", "1970-03-15",
+                Arguments.of(TestDataFactory.nextId(), "TC08 Update", "Updated bio", "1970-03-15",
                         "TC08 (P2): Update with new data", 200),
 
                 // TC19 - Negative id (should fail)
@@ -46,12 +49,22 @@ public class AuthorTestDataProvider {
 
                 // TC20 - id = 0 (should fail)
                 Arguments.of(0, "Zero ID", "Zero id test", "1972-08-08",
-                        "TC20 (P2): id zero", 400),
+                        "TC20 (P2): id zero", 400)
 
-                // TC23 - Duplicate ID (assume 6001 already exists)
-                Arguments.of(6001, "TC23 Duplicate", "Duplicate ID test", "1973-09-09",
-                        "TC23 (P2): Duplicate ID", 409)
+                // TC23 - Duplicate ID needs an existing author, so it is a test of its own
+                // (AuthorsTest#createAuthor_duplicateId_shouldReturn409): providers run at discovery, outside any test
             )
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Generated authors cycling through every {@link DataGenerator.AuthorVariant} (unicode text, boundary
+     * values, malformed dates, large texts, missing required fields), streamed lazily.
+     * Arguments: author, variant, expected outcome. Row count: data.generated.count (default 20).
+     */
+    public static Stream<Arguments> provideGeneratedAuthorCases() {
+        int count = Config.get().getInt("data.generated.count", 20);
+        return DataGenerator.fromConfig().authorVariants(TestDataFactory.reserveIds(count), count)
+                .map(sample -> Arguments.of(sample.value(), sample.variant(), sample.expected()));
+    }
+}
@@ -1,11 +1,14 @@
 package com.bookstore.data;
 
+import com.bookstore.utils.Config;
 import org.junit.jupiter.params.provider.Arguments;
+
 import java.util.stream.Stream;
 
 /**
  * Provides POST/PUT test data for Books API (P1, P2, P3 cases only).
  * Arguments: id, title, description, pageCount, excerpt, publishDate, testCaseDesc, expectedStatus
+ * IDs come from {@link TestDataFactory}, so rows never collide with each other or with parallel tests.
  */
 public class BookTestDataProvider {
 
@@ -16,17 +19,17 @@ public class BookTestDataProvider {
             // TC01 - (No body needed, GET /Books returns non-empty, handled in test class not provider)
 
             // TC02 - Create book, valid happy path [P1]
-            Arguments.of(6001, "TC02 Happy Path", "Valid Book", 120, "Excerpt", "2023-01-01T00:00:00Z",
+            Arguments.of(TestDataFactory.nextId(), "TC02 Happy Path", "Valid Book", 120, "Excerpt", "2023-01-01T00:00:00Z",
                     "TC02 (P1): Create new book - all fields valid", 201),
 
             // TC16 - Create book missing required field (title) [P1]
-            Arguments.of(6002, null, "Missing title", 150, "Excerpt", "2022-03-01T00:00:00Z",
+            Arguments.of(TestDataFactory.nextId(), null, "Missing title", 150, "Excerpt", "2022-03-01T00:00:00Z",
                     "TC16 (P1): Missing required title", 400),
 
             // TC23 - Create book with blank/space title [P1]
-            Arguments.of(6003, "", "Blank title", 110, "Excerpt", "2023-04-04T00:00:00Z",
+            Arguments.of(TestDataFactory.nextId(), "", "Blank title", 110, "Excerpt", "2023-04-04T00:00:00Z",
                     "TC23 (P1): Blank title (empty string)", 400),
-            Arguments.of(6004, "   ", "Title with spaces only", 110, "Excerpt", "2023-05-05T00:00:00Z",
+            Arguments.of(TestDataFactory.nextId(), "   ", "Title with spaces only", 110, "Excerpt", "2023-05-05T00:00:00Z",
                     "TC23 (P1): Title spaces only", 400),
 
             // TC27 - Create book with string in pageCount [P1]
@@ -39,7 +42,7 @@ public class BookTestDataProvider {
 
             // TC03 - Get book by ID (handled in test class, id param olarak kullanılır)
             // TC04 - Update book, valid [P2]
-            Arguments.of(6005, "TC04 Update", "Update Book", 130, "New excerpt", "2023-02-02T00:00:00Z",
+            Arguments.of(TestDataFactory.nextId(), "TC04 Update", "Update Book", 130, "New excerpt", "2023-02-02T00:00:00Z",
                     "TC04 (P2): Update existing book - all fields valid", 200),
 
             // TC05 - Delete book (handled in test class, id param olarak kullanılır)
@@ -50,11 +53,11 @@ public class BookTestDataProvider {
 
             // TC06 - Get book by another valid ID (handled in test class)
             // TC07 - Create new book, all fields valid [P3]
-            Arguments.of(6006, "TC07 All Valid", "All valid fields", 300, "Testing Excerpt", "2022-07-01T00:00:00Z",
+            Arguments.of(TestDataFactory.nextId(), "TC07 All Valid", "All valid fields", 300, "Testing Excerpt", "2022-07-01T00:00:00Z",
                     "TC07 (P3): Create book, all fields valid", 201),
 
             // TC08 - Update existing book with new data [P3]
-            Arguments.of(6007, "TC08 Update", "Updated data", 255, "Excerpt", "2022-08-01T00:00:00Z",
+            Arguments.of(TestDataFactory.nextId(), "TC08 Update", "Updated data", 255, "Excerpt", "2022-08-01T00:00:00Z",
                     "TC08 (P3): Update with new data", 200)
 
             // TC09 - Delete another existing book (handled in test class)
@@ -64,4 +67,15 @@ public class BookTestDataProvider {
             // TC39 - Content-Type header validation (handled in test class, body gerekmez)
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Generated books cycling through every {@link DataGenerator.BookVariant} (unicode text, boundary
+     * values, malformed dates, large texts, missing required fields), streamed lazily.
+     * Arguments: book, variant, expected outcome. Row count: data.generated.count (default 20).
+     */
+    public static Stream<Arguments> provideGeneratedBookCases() {
+        int count = Config.get().getInt("data.generated.count", 20);
+        return DataGenerator.fromConfig().bookVariants(TestDataFactory.reserveIds(count), count)
+                .map(sample -> Arguments.of(sample.value(), sample.variant(), sample.expected()));
+    }
+}
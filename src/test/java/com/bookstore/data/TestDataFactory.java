@@ -0,0 +1,201 @@
+package com.bookstore.data;
+
+import com.bookstore.api.AuthorsClient;
+import com.bookstore.api.BatchResult;
+import com.bookstore.api.BooksClient;
+import com.bookstore.cassette.Cassette;
+import com.bookstore.cassette.CassetteMode;
+import com.bookstore.model.Author;
+import com.bookstore.model.Book;
+import com.bookstore.utils.Config;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out collision-free IDs and entities for tests, and cleans them up in bulk.
+ * <p>
+ * Every call returns a fresh ID, so tests never share records and can run in any order
+ * or in parallel. Each run owns a block of {@code testdata.id.block.size} IDs well above any
+ * hand-written fixture ID; blocks follow the start second (or {@code testdata.id.base}), so two
+ * runs against the same environment do not collide either, and a run that needs more IDs than its
+ * block fails instead of spilling into the next run's. While a cassette is recorded or replayed the
+ * base is fixed instead, below all time-derived blocks, so the requests of both runs match.
+ * </p>
+ * <p>
+ * Entities created through {@link #createBook}/{@link #createAuthor}, or registered with
+ * {@link #trackBook}/{@link #trackAuthor}, are deleted once at the end of the run by
+ * {@link com.bookstore.base.TestDataCleanupExtension}.
+ * </p>
+ *
+ * <p>
+ * Usage Example:<br>
+ * <code>
+ *   Book book = TestDataFactory.createBook("Clean REST Design");
+ *   Response res = BooksClient.getBookById(book.getId());
+ * </code>
+ * </p>
+ */
+public final class TestDataFactory {
+
+    /**
+     * Fixed base while recording or replaying a cassette. IDs below it are never handed out
+     * (reserved for hand-written fixtures and "non-existing" IDs).
+     */
+    private static final int CASSETTE_ID_BASE = 1_000_000;
+    /** Start of the time-derived blocks; the cassette block ends here. */
+    private static final int TIME_ID_BASE = 2_000_000;
+
+    private static final int BLOCK_SIZE = Config.get().getPositiveInt("testdata.id.block.size", 20_000);
+    private static final int FIRST_ID = idBase();
+    private static final long END_ID = (long) FIRST_ID + BLOCK_SIZE;
+    private static final AtomicInteger NEXT_ID = new AtomicInteger(FIRST_ID);
+    private static final Queue<Integer> BOOKS = new ConcurrentLinkedQueue<>();
+    private static final Queue<Integer> AUTHORS = new ConcurrentLinkedQueue<>();
+
+    private TestDataFactory() { }
+
+    /** @return A new ID, unique within this run across all threads */
+    public static int nextId() {
+        return reserveIds(1);
+    }
+
+    /**
+     * Reserves a block of consecutive IDs, e.g. for {@link DataGenerator} streams.
+     * @param count Number of IDs
+     * @return First ID of the block
+     * @throws IllegalStateException if the run's block of testdata.id.block.size IDs is used up
+     */
+    public static int reserveIds(int count) {
+        int first = NEXT_ID.getAndAdd(count);
+        if (first + (long) count > END_ID) {
+            throw new IllegalStateException("Test data IDs exhausted: " + count + " more requested, but this run's block "
+                    + FIRST_ID + ".." + (END_ID - 1) + " is used up (raise testdata.id.block.size)");
+        }
+        return first;
+    }
+
+    // -- Books --
+
+    /**
+     * Builds (but does not create) a valid book with a fresh ID.
+     * @param title Book title
+     * @return Unsaved book
+     */
+    public static Book newBook(String title) {
+        return new Book(nextId(), title, "Generated by TestDataFactory", 150, "Sample excerpt.", "2023-09-01T00:00:00Z");
+    }
+
+    /**
+     * Creates a valid book through the API and schedules it for cleanup.
+     * @param title Book title
+     * @return Book as sent to the API (its ID is the created ID)
+     * @throws IllegalStateException if the API does not return 200/201
+     */
+    public static Book createBook(String title) {
+        Book book = newBook(title);
+        Response res = BooksClient.addBook(book);
+        requireCreated(res, "book " + book.getId());
+        trackBook(book.getId());
+        return book;
+    }
+
+    /** Registers a book created by the test itself for end-of-run cleanup. */
+    public static void trackBook(int id) {
+        BOOKS.add(id);
+    }
+
+    // -- Authors --
+
+    /**
+     * Builds (but does not create) a valid author with a fresh ID.
+     * @param name Author name
+     * @return Unsaved author
+     */
+    public static Author newAuthor(String name) {
+        return new Author(nextId(), name, "Generated by TestDataFactory", "1990-01-01");
+    }
+
+    /**
+     * Creates a valid author through the API and schedules it for cleanup.
+     * @param name Author name
+     * @return Author as sent to the API (its ID is the created ID)
+     * @throws IllegalStateException if the API does not return 200/201
+     */
+    public static Author createAuthor(String name) {
+        Author author = newAuthor(name);
+        Response res = AuthorsClient.addAuthor(author);
+        requireCreated(res, "author " + author.getId());
+        trackAuthor(author.getId());
+        return author;
+    }
+
+    /** Registers an author created by the test itself for end-of-run cleanup. */
+    public static void trackAuthor(int id) {
+        AUTHORS.add(id);
+    }
+
+    // -- Cleanup --
+
+    /**
+     * Deletes every tracked book and author. Already-deleted records (404) are ignored.
+     * Deletes are pipelined through the batch API.
+     * @return IDs that could not be deleted, formatted as "books/1001" or "authors/1002"
+     */
+    public static List<String> cleanup() {
+        int[] books = drain(BOOKS);
+        int[] authors = drain(AUTHORS);
+        List<String> failures = new ArrayList<>();
+        collectFailures(BooksClient.deleteBooks(books), "books/", failures);
+        collectFailures(AuthorsClient.deleteAuthors(authors), "authors/", failures);
+        return failures;
+    }
+
+    private static int[] drain(Queue<Integer> ids) {
+        List<Integer> drained = new ArrayList<>();
+        Integer id;
+        while ((id = ids.poll()) != null) {
+            drained.add(id);
+        }
+        return drained.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void collectFailures(BatchResult result, String prefix, List<String> failures) {
+        for (BatchResult.Item item : result.failures()) {
+            if (!isDeleted(item.status())) {
+                failures.add(prefix + item.id());
+            }
+        }
+    }
+
+    private static boolean isDeleted(int status) {
+        return status == 200 || status == 204 || status == 404;
+    }
+
+    private static void requireCreated(Response res, String what) {
+        int status = res.statusCode();
+        if (status != 200 && status != 201) {
+            throw new IllegalStateException("Test data setup failed: could not create " + what + " (HTTP " + status + ")");
+        }
+    }
+
+    private static int idBase() {
+        int configured = Config.get().getInt("testdata.id.base", 0);
+        if (configured > 0) {
+            return configured;
+        }
+        if (Cassette.mode() != CassetteMode.OFF) {
+            // Request bodies must be identical when recording and replaying a cassette.
+            return CASSETTE_ID_BASE;
+        }
+        // One block per start second keeps runs on a shared environment apart; with the default block
+        // size the blocks wrap after about 30 hours.
+        long blocks = (Integer.MAX_VALUE - TIME_ID_BASE) / BLOCK_SIZE;
+        long block = (System.currentTimeMillis() / 1000) % blocks;
+        return (int) (TIME_ID_BASE + block * BLOCK_SIZE);
+    }
+}
@@ -2,18 +2,30 @@
  * Covers:
  *  This suite automates the following Authors API test cases, grouped by priority:
  *    • P1 (Blocker): TC01, TC02, TC16, TC22
- *    • P2 (Critical): TC03, TC04, TC05
- *    • P3 (Normal): TC06, TC07, TC08, TC09
+ *    • P2 (Critical): TC03, TC04, TC05, TC23
+ *    • P3 (Normal): TC06, TC07, TC08, TC09, TC10
  * (See README for full priority breakdown.)
  */
 
 package com.bookstore.tests;
 
 import com.bookstore.api.AuthorsClient;
+import com.bookstore.api.JsonArrayReader;
+import com.bookstore.api.ListSummary;
+import com.bookstore.api.Resource;
 import com.bookstore.base.BaseTest;
+import com.bookstore.base.DependsOn;
+import com.bookstore.contract.Contract;
+import com.bookstore.contract.ContractResult;
+import com.bookstore.data.DataGenerator;
+import com.bookstore.data.TestDataFactory;
 import com.bookstore.model.Author;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import io.qameta.allure.*;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -22,13 +34,13 @@ import static org.hamcrest.Matchers.*;
 @Epic("Authors API Automation")
 @Feature("Authors Endpoints")
 @DisplayName("Authors API E2E Test Suite (P1 + P2 + P3)")
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Execution(ExecutionMode.CONCURRENT)
+@DependsOn(Resource.AUTHORS)
 public class AuthorsTest extends BaseTest {
 
-    // --- Shared Test Data ---
-    static int createdAuthorId;
-    static Author validAuthor = new Author(7001, "Jane Doe", "Test author", "1990-01-01");
-    static Author anotherAuthor = new Author(7002, "John Smith", "Another test author", "1985-05-12");
+    // --- Test Data ---
+    // Every test gets its own records from TestDataFactory (unique IDs, cleaned up at the end of the run),
+    // so tests are independent of each other and safe to run in parallel.
 
     // ---------------------------
     //      P1 - BLOCKER TESTS 
@@ -39,17 +51,24 @@ public class AuthorsTest extends BaseTest {
      * Endpoint: GET /Authors
      * Purpose: Ensure endpoint returns 200 and a non-empty author list.
      * Steps: Send GET /Authors request.
-     * Expected Result: HTTP 200, non-empty list of authors in response.
+     * Expected Result: HTTP 200, non-empty list of authors with unique IDs, each matching the Author contract.
      * Notes: Release-blocker.
      */
-    @Test @Order(1)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC01 - Get all authors (smoke, happy path)")
     void getAllAuthors_shouldReturnList() {
         Response res = AuthorsClient.getAllAuthors();
         res.then().statusCode(200);
-        assertThat(res.jsonPath().getList("$"), is(not(empty())));
+        ContractResult contract = Contract.AUTHOR.validateArray(res.asByteArray());
+        assertThat(contract.toString(), contract.violations(), is(empty()));
+        try (JsonArrayReader<Author> authors = JsonArrayReader.authors(res)) {
+            ListSummary summary = authors.summarize(Author::getId, JsonArrayReader::isValidAuthor);
+            assertThat(summary.getCount(), is(greaterThan(0L)));
+            assertThat(summary.toString(), summary.getDuplicates(), is(0L));
+            assertThat(summary.toString(), summary.getInvalid(), is(0L));
+        }
     }
 
     /**
@@ -57,18 +76,21 @@ public class AuthorsTest extends BaseTest {
      * Endpoint: POST /Authors
      * Purpose: Validate author creation with valid fields.
      * Steps: Send POST /Authors with valid author body.
-     * Expected Result: HTTP 201, author returned.
+     * Expected Result: HTTP 201, author returned matching the Author contract.
      * Notes: Release-blocker.
      */
-    @Test @Order(2)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC02 - Create new author (smoke, happy path)")
     void createAuthor_shouldReturnCreated() {
+        Author validAuthor = TestDataFactory.newAuthor("Jane Doe");
         Response res = AuthorsClient.addAuthor(validAuthor);
+        TestDataFactory.trackAuthor(validAuthor.getId());
         res.then().statusCode(201);
-        createdAuthorId = res.jsonPath().getInt("id");
-        assertThat(res.jsonPath().getString("name"), is(validAuthor.getName()));
+        ContractResult contract = Contract.AUTHOR.validate(res.asByteArray());
+        assertThat(contract.toString(), contract.violations(), is(empty()));
+        assertThat(res.as(Author.class).getName(), is(validAuthor.getName()));
     }
 
     /**
@@ -79,7 +101,7 @@ public class AuthorsTest extends BaseTest {
      * Expected Result: HTTP 400 returned.
      * Notes: Release-blocker for validation.
      */
-    @Test @Order(3)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("edge")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC16 - Create author missing name (edge, smoke)")
@@ -97,7 +119,7 @@ public class AuthorsTest extends BaseTest {
      * Expected Result: HTTP 400 returned.
      * Notes: Release-blocker for input validation.
      */
-    @Test @Order(4)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("edge")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC22 - Create author with blank/space name (edge, smoke)")
@@ -118,15 +140,15 @@ public class AuthorsTest extends BaseTest {
      * Steps: GET /Authors/{id} after creation.
      * Expected Result: HTTP 200 and correct author data.
      */
-    @Test @Order(5)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("TC03 - Get author by ID (just created)")
     void getAuthorById_shouldReturnAuthor() {
-        Response res = AuthorsClient.getAuthorById(createdAuthorId);
-        res.then().statusCode(200);
-        assertThat(res.jsonPath().getInt("id"), is(createdAuthorId));
-        assertThat(res.jsonPath().getString("name"), is(validAuthor.getName()));
+        Author validAuthor = TestDataFactory.createAuthor("Jane Doe");
+        Author fetched = AuthorsClient.getAuthorByIdAs(validAuthor.getId()); // throws unless 2xx
+        assertThat(fetched.getId(), is(validAuthor.getId()));
+        assertThat(fetched.getName(), is(validAuthor.getName()));
     }
 
     /**
@@ -136,15 +158,16 @@ public class AuthorsTest extends BaseTest {
      * Steps: PUT with updated bio.
      * Expected Result: HTTP 200, updated author info returned.
      */
-    @Test @Order(6)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("TC04 - Update author")
     void updateAuthor_shouldReturnUpdatedAuthor() {
-        Author updated = new Author(createdAuthorId, validAuthor.getName(), "Updated bio", validAuthor.getBirthDate());
-        Response res = AuthorsClient.updateAuthor(createdAuthorId, updated);
+        Author validAuthor = TestDataFactory.createAuthor("Jane Doe");
+        Author updated = new Author(validAuthor.getId(), validAuthor.getName(), "Updated bio", validAuthor.getBirthDate());
+        Response res = AuthorsClient.updateAuthor(validAuthor.getId(), updated);
         res.then().statusCode(200);
-        assertThat(res.jsonPath().getString("bio"), is("Updated bio"));
+        assertThat(res.as(Author.class).getBio(), is("Updated bio"));
     }
 
     /**
@@ -154,15 +177,33 @@ public class AuthorsTest extends BaseTest {
      * Steps: DELETE by id after creation.
      * Expected Result: HTTP 200 or 204.
      */
-    @Test @Order(7)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("TC05 - Delete author")
     void deleteAuthor_shouldReturnSuccess() {
-        Response res = AuthorsClient.deleteAuthor(createdAuthorId);
+        Author validAuthor = TestDataFactory.createAuthor("Jane Doe");
+        Response res = AuthorsClient.deleteAuthor(validAuthor.getId());
         assertThat(res.statusCode(), anyOf(is(200), is(204)));
     }
 
+    /**
+     * [P2][Edge] TC23 - Create author with duplicate ID
+     * Endpoint: POST /Authors
+     * Purpose: API must not overwrite an existing author through POST.
+     * Steps: [Create author] -> POST another author with the same ID
+     * Expected Result: HTTP 409 returned.
+     */
+    @Test
+    @Tag("api") @Tag("regression") @Tag("edge")
+    @Severity(SeverityLevel.CRITICAL)
+    @DisplayName("TC23 - Create author with duplicate ID (edge)")
+    void createAuthor_duplicateId_shouldReturn409() {
+        Author existing = TestDataFactory.createAuthor("TC23 Existing");
+        Response res = AuthorsClient.addAuthor(new Author(existing.getId(), "TC23 Duplicate", "Duplicate ID test", "1973-09-09"));
+        res.then().statusCode(409);
+    }
+
     // ---------------------------
     //      P3 - NORMAL TESTS 
     // ---------------------------
@@ -174,15 +215,14 @@ public class AuthorsTest extends BaseTest {
      * Steps: 1. Create another author. 2. GET /Authors/{id}
      * Expected Result: HTTP 200, correct author data.
      */
-    @Test @Order(8)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC06 - Get author by another valid ID (happy path)")
     void getAuthorByAnotherValidId_shouldReturnAuthor() {
-        AuthorsClient.addAuthor(anotherAuthor);
-        Response res = AuthorsClient.getAuthorById(anotherAuthor.getId());
-        res.then().statusCode(200);
-        assertThat(res.jsonPath().getString("name"), is(anotherAuthor.getName()));
+        Author anotherAuthor = TestDataFactory.createAuthor("John Smith");
+        Author fetched = AuthorsClient.getAuthorByIdAs(anotherAuthor.getId()); // throws unless 2xx
+        assertThat(fetched.getName(), is(anotherAuthor.getName()));
     }
 
     /**
@@ -192,15 +232,16 @@ public class AuthorsTest extends BaseTest {
      * Steps: POST with all fields populated.
      * Expected Result: HTTP 201 and correct data in response.
      */
-    @Test @Order(9)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC07 - Create new author (all valid fields)")
     void createAuthor_allFields_shouldReturnCreated() {
-        Author a = new Author(7003, "E2E Author", "Full fields", "1995-03-03");
+        Author a = new Author(TestDataFactory.nextId(), "E2E Author", "Full fields", "1995-03-03");
         Response res = AuthorsClient.addAuthor(a);
+        TestDataFactory.trackAuthor(a.getId());
         res.then().statusCode(201);
-        assertThat(res.jsonPath().getString("name"), is("E2E Author"));
+        assertThat(res.as(Author.class).getName(), is("E2E Author"));
     }
 
     /**
@@ -210,15 +251,16 @@ public class AuthorsTest extends BaseTest {
      * Steps: PUT with new name/bio.
      * Expected Result: HTTP 200 and updated fields in response.
      */
-    @Test @Order(10)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC08 - Update existing author with new data")
     void updateAuthor_withNewData_shouldReturnUpdatedAuthor() {
-        Author updated = new Author(7003, "E2E Author Updated", "Updated", "1995-03-03");
-        Response res = AuthorsClient.updateAuthor(7003, updated);
+        Author existing = TestDataFactory.createAuthor("E2E Author");
+        Author updated = new Author(existing.getId(), "E2E Author Updated", "Updated", "1995-03-03");
+        Response res = AuthorsClient.updateAuthor(existing.getId(), updated);
         res.then().statusCode(200);
-        assertThat(res.jsonPath().getString("name"), is("E2E Author Updated"));
+        assertThat(res.as(Author.class).getName(), is("E2E Author Updated"));
     }
 
     /**
@@ -228,13 +270,40 @@ public class AuthorsTest extends BaseTest {
      * Steps: DELETE by ID for different author.
      * Expected Result: HTTP 200 or 204.
      */
-    @Test @Order(11)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC09 - Delete a different existing author")
     void deleteAnotherAuthor_shouldReturnSuccess() {
+        Author anotherAuthor = TestDataFactory.createAuthor("John Smith");
         Response res = AuthorsClient.deleteAuthor(anotherAuthor.getId());
         assertThat(res.statusCode(), anyOf(is(200), is(204)));
     }
 
-}
\ No newline at end of file
+    /**
+     * [P3][Generated] TC10 - Create generated boundary-value authors
+     * Endpoint: POST /Authors
+     * Purpose: Exercise the API with synthetic records (unicode names, malformed dates,
+     *          large bios, missing/blank names) from {@link DataGenerator}.
+     * Expected Result: Valid variants 200/201, missing/blank name 400, everything else no 5xx
+     * Notes: Row count and seed via data.generated.count / data.seed.
+     */
+    @ParameterizedTest(name = "TC10 - {1}")
+    @MethodSource("com.bookstore.data.AuthorTestDataProvider#provideGeneratedAuthorCases")
+    @Tag("api") @Tag("regression") @Tag("generated")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC10 - Create generated boundary-value authors")
+    void createGeneratedAuthor_shouldMatchExpectedOutcome(Author author, DataGenerator.AuthorVariant variant,
+                                                          DataGenerator.Outcome expected) {
+        Response res = AuthorsClient.addAuthor(author);
+        int status = res.statusCode();
+        if (status >= 200 && status < 300) {
+            TestDataFactory.trackAuthor(author.getId());
+        }
+        switch (expected) {
+            case ACCEPT -> assertThat(variant + " must be accepted", status, anyOf(is(200), is(201)));
+            case REJECT -> assertThat(variant + " must be rejected", status, is(400));
+            default -> assertThat(variant + " must not cause a server error", status, is(lessThan(500)));
+        }
+    }
+}
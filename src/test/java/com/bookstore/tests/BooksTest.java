@@ -3,32 +3,65 @@
  *  This project currently automates the following Books API test cases, grouped by priority:
  *   • P1 (Blocker): TC01, TC02, TC16, TC23, TC27, TC33
  *   • P2 (Critical/Major): TC03, TC04, TC05, TC11
- *   • P3 (Major/Normal): TC06, TC07, TC08, TC09, TC10, TC39
+ *   • P3 (Major/Normal): TC06, TC07, TC08, TC09, TC10, TC39, TC40, TC41, TC42, TC43
  * (See README for full priority breakdown.)
  */
 
 package com.bookstore.tests;
 
+import com.bookstore.api.AsyncTransport;
+import com.bookstore.api.BatchResult;
 import com.bookstore.api.BooksClient;
+import com.bookstore.api.Deadline;
+import com.bookstore.api.DeadlineExceededException;
+import com.bookstore.api.Endpoint;
+import com.bookstore.api.JsonArrayReader;
+import com.bookstore.api.ListSummary;
+import com.bookstore.api.Resource;
 import com.bookstore.base.BaseTest;
+import com.bookstore.base.DependsOn;
+import com.bookstore.base.MaxLatency;
+import com.bookstore.cassette.Cassette;
+import com.bookstore.cassette.CassetteMode;
+import com.bookstore.contract.Contract;
+import com.bookstore.contract.ContractResult;
+import com.bookstore.data.DataGenerator;
+import com.bookstore.data.TestDataFactory;
+import com.bookstore.metrics.LatencyMetrics;
+import com.bookstore.metrics.LatencySnapshot;
 import com.bookstore.model.Book;
+import com.bookstore.stub.StubServer;
+import com.bookstore.utils.Config;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
 import io.qameta.allure.*;
 
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @Epic("Books API Automation")
 @Feature("Books Endpoints")
 @DisplayName("Books API E2E Test Suite (P1-P3 Priority Cases)")
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@Execution(ExecutionMode.CONCURRENT)
+@DependsOn(Resource.BOOKS)
 public class BooksTest extends BaseTest {
 
-    // --- Shared Test Data ---
-    static int createdBookId;
-    static Book validBook = new Book(101, "API Automation for Dummies", "Practical guide to modern API automation", 200, "Learn API testing step by step.", "2023-09-01T00:00:00Z");
-    static Book anotherBook = new Book(102, "Clean REST Design", "API design best practices", 120, "REST for everyone.", "2022-06-01T00:00:00Z");
+    // --- Test Data ---
+    // Every test gets its own records from TestDataFactory (unique IDs, cleaned up at the end of the run),
+    // so tests are independent of each other and safe to run in parallel.
 
     // ---------------------------
     //         P1 - BLOCKER TESTS
@@ -42,19 +75,28 @@ public class BooksTest extends BaseTest {
      *   1. Send GET /Books request
      * Expected Result:
      *   - HTTP 200 returned
-     *   - Response body contains a non-empty list of books
+     *   - Response body contains a non-empty list of books with unique IDs and valid fields
+     *   - Every element matches the Book contract
      * Notes:
      *   - Release-blocker. Failure indicates backend outage or critical defect.
+     *   - Invoked 20 times; fails if the p99 of GET /Books exceeds 2s (@MaxLatency).
      */
-    @Test @Order(1)
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC01 - Get all books (smoke, happy path)")
     @Description("Should return 200 OK and a non-empty list for GET /Books. Release-blocker.")
+    @MaxLatency(p99 = "2s", samples = 20)
     void getAllBooks_shouldReturnList() {
         Response res = BooksClient.getAllBooks();
         res.then().statusCode(200);
-        assertThat(res.jsonPath().getList("$"), is(not(empty())));
+        ContractResult contract = Contract.BOOK.validateArray(res.asByteArray());
+        assertThat(contract.toString(), contract.violations(), is(empty()));
+        try (JsonArrayReader<Book> books = JsonArrayReader.books(res)) {
+            ListSummary summary = books.summarize(Book::getId, JsonArrayReader::isValidBook);
+            assertThat(summary.getCount(), is(greaterThan(0L)));
+            assertThat(summary.toString(), summary.getDuplicates(), is(0L));
+            assertThat(summary.toString(), summary.getInvalid(), is(0L));
+        }
     }
 
     /**
@@ -65,21 +107,24 @@ public class BooksTest extends BaseTest {
      *   1. Send POST /Books with valid book JSON
      * Expected Result:
      *   - HTTP 201 returned
-     *   - Response contains correct book data
+     *   - Response contains correct book data and matches the Book contract
      * Notes:
      *   - Release-blocker. Failure = no books can be created.
      */
-    @Test @Order(2)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC02 - Create new book (smoke, happy path)")
     @Description("Creates a valid book, expects 201 Created and correct body. Release-blocker.")
     void createBook_shouldReturnCreated() {
-        Response res = BooksClient.addBook(validBook);
+        Book book = TestDataFactory.newBook("API Automation for Dummies");
+        Response res = BooksClient.addBook(book);
+        TestDataFactory.trackBook(book.getId());
         res.then().statusCode(201);
+        ContractResult contract = Contract.BOOK.validate(res.asByteArray());
+        assertThat(contract.toString(), contract.violations(), is(empty()));
         Book created = res.as(Book.class);
-        assertThat(created.getTitle(), is(validBook.getTitle()));
-        createdBookId = created.getId();
+        assertThat(created.getTitle(), is(book.getTitle()));
     }
 
     /**
@@ -90,7 +135,7 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 400 returned
      * Notes: Release-blocker for validation.
      */
-    @Test @Order(3)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("edge")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC16 - Create book missing title (edge, smoke)")
@@ -109,7 +154,7 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 400 returned
      * Notes: Release-blocker for input validation.
      */
-    @Test @Order(4)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("edge")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC23 - Create book with blank/space title (edge, smoke)")
@@ -128,7 +173,7 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 400 or 422 returned
      * Notes: Release-blocker for strong typing.
      */
-    @Test @Order(5)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("edge")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC27 - Create book with string in pageCount (edge, smoke)")
@@ -147,7 +192,7 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 400 returned
      * Notes: Major edge validation for parser/validation logic.
      */
-    @Test @Order(6)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("edge")
     @Severity(SeverityLevel.BLOCKER)
     @DisplayName("TC33 - Send POST request with malformed JSON (edge)")
@@ -175,15 +220,15 @@ public class BooksTest extends BaseTest {
      * Notes:
      *   - Release-blocker. Verifies system can retrieve new books.
      */
-    @Test @Order(7)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("TC03 - Get book by ID (just created) (smoke, happy path)")
     @Description("Fetch just created book. Must not fail, release-blocker.")
     void getBookById_shouldReturnBook() {
-        Response res = BooksClient.getBookById(createdBookId);
-        res.then().statusCode(200);
-        assertThat(res.jsonPath().getString("title"), is(validBook.getTitle()));
+        Book book = TestDataFactory.createBook("API Automation for Dummies");
+        Book fetched = BooksClient.getBookByIdAs(book.getId()); // throws unless 2xx
+        assertThat(fetched.getTitle(), is(book.getTitle()));
     }
 
     /**
@@ -194,16 +239,17 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 200; updated data in response
      * Notes: Release-blocker for core update functionality.
      */
-    @Test @Order(8)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("TC04 - Update book (smoke, happy path)")
     @Description("Update the created book. Fail = release-blocker.")
     void updateBook_shouldReturnUpdatedBook() {
-        validBook.setDescription("Updated desc");
-        Response res = BooksClient.updateBook(createdBookId, validBook);
+        Book book = TestDataFactory.createBook("API Automation for Dummies");
+        book.setDescription("Updated desc");
+        Response res = BooksClient.updateBook(book.getId(), book);
         res.then().statusCode(200);
-        assertThat(res.jsonPath().getString("description"), is("Updated desc"));
+        assertThat(res.as(Book.class).getDescription(), is("Updated desc"));
     }
 
     /**
@@ -214,13 +260,14 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 200 or 204
      * Notes: Release-blocker for resource deletion.
      */
-    @Test @Order(9)
+    @Test
     @Tag("api") @Tag("smoke") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("TC05 - Delete book (smoke, happy path)")
     @Description("Deletes the created book. Fail = release-blocker.")
     void deleteBook_shouldReturnSuccess() {
-        Response res = BooksClient.deleteBook(createdBookId);
+        Book book = TestDataFactory.createBook("API Automation for Dummies");
+        Response res = BooksClient.deleteBook(book.getId());
         assertThat(res.statusCode(), anyOf(is(200), is(204)));
     }
 
@@ -232,12 +279,13 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 404 returned
      * Notes: Major edge validation; ensures proper not-found handling.
      */
-    @Test @Order(10)
+    @Test
     @Tag("api") @Tag("regression") @Tag("edge")
     @Severity(SeverityLevel.CRITICAL)
     @DisplayName("TC11 - Get book by non-existing ID (edge)")
     @Description("404 for a non-existing book ID. Major edge validation.")
     void getBookByNonExistingId_shouldReturn404() {
+        // Below TestDataFactory's ID range, so never created by this suite
         Response res = BooksClient.getBookById(999999);
         res.then().statusCode(404);
     }
@@ -254,16 +302,15 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 200 and correct title in response
      * Notes: Not release-blocker but required for full regression.
      */
-    @Test @Order(11)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC06 - Get book by another valid ID (happy path)")
     @Description("Valid ID must work. Not release-blocker but major regression.")
     void getBookByAnotherValidId_shouldReturnBook() {
-        BooksClient.addBook(anotherBook);
-        Response res = BooksClient.getBookById(anotherBook.getId());
-        res.then().statusCode(200);
-        assertThat(res.jsonPath().getString("title"), is(anotherBook.getTitle()));
+        Book anotherBook = TestDataFactory.createBook("Clean REST Design");
+        Book fetched = BooksClient.getBookByIdAs(anotherBook.getId()); // throws unless 2xx
+        assertThat(fetched.getTitle(), is(anotherBook.getTitle()));
     }
 
     /**
@@ -274,16 +321,17 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 201 and valid book in response
      * Notes: Not release-blocker but must pass in regression.
      */
-    @Test @Order(12)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC07 - Create new book (all valid fields) (happy path)")
     @Description("All valid fields should return 201. Not release-blocker but major regression.")
     void createBook_allFields_shouldReturnCreated() {
-        Book b = new Book(103, "Test Driven API", "All fields test", 80, "Excerpt", "2023-01-01T00:00:00Z");
+        Book b = new Book(TestDataFactory.nextId(), "Test Driven API", "All fields test", 80, "Excerpt", "2023-01-01T00:00:00Z");
         Response res = BooksClient.addBook(b);
+        TestDataFactory.trackBook(b.getId());
         res.then().statusCode(201);
-        assertThat(res.jsonPath().getString("title"), is("Test Driven API"));
+        assertThat(res.as(Book.class).getTitle(), is("Test Driven API"));
     }
 
     /**
@@ -294,16 +342,17 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 200 and updated fields
      * Notes: Not release-blocker but must pass in regression.
      */
-    @Test @Order(13)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC08 - Update existing book with new data (happy path)")
     @Description("Update with new data. Not release-blocker but major regression.")
     void updateBook_withNewData_shouldReturnUpdatedBook() {
-        Book updated = new Book(103, "Updated Title", "Updated Desc", 90, "Updated Excerpt", "2023-01-01T00:00:00Z");
-        Response res = BooksClient.updateBook(103, updated);
+        Book existing = TestDataFactory.createBook("Test Driven API");
+        Book updated = new Book(existing.getId(), "Updated Title", "Updated Desc", 90, "Updated Excerpt", "2023-01-01T00:00:00Z");
+        Response res = BooksClient.updateBook(existing.getId(), updated);
         res.then().statusCode(200);
-        assertThat(res.jsonPath().getString("title"), is("Updated Title"));
+        assertThat(res.as(Book.class).getTitle(), is("Updated Title"));
     }
 
     /**
@@ -314,13 +363,14 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 200 or 204 returned
      * Notes: Not release-blocker but major regression case.
      */
-    @Test @Order(14)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC09 - Delete a different existing book (happy path)")
     @Description("Deletes another book. Not release-blocker but major regression.")
     void deleteAnotherBook_shouldReturnSuccess() {
-        Response res = BooksClient.deleteBook(102);
+        Book anotherBook = TestDataFactory.createBook("Clean REST Design");
+        Response res = BooksClient.deleteBook(anotherBook.getId());
         assertThat(res.statusCode(), anyOf(is(200), is(204)));
     }
 
@@ -332,15 +382,21 @@ public class BooksTest extends BaseTest {
      * Expected Result: HTTP 200 and up-to-date list
      * Notes: Not release-blocker but validates DB sync.
      */
-    @Test @Order(15)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC10 - List all books after CRUD operations (happy path)")
     @Description("Book list should reflect CRUD changes. Not release-blocker but major regression.")
     void listAllBooks_afterCrud_shouldBeUpToDate() {
+        TestDataFactory.createBook("Listed After CRUD");
         Response res = BooksClient.getAllBooks();
         res.then().statusCode(200);
-        assertThat(res.jsonPath().getList("$"), is(not(empty())));
+        try (JsonArrayReader<Book> books = JsonArrayReader.books(res)) {
+            ListSummary summary = books.summarize(Book::getId, JsonArrayReader::isValidBook);
+            assertThat(summary.getCount(), is(greaterThan(0L)));
+            assertThat(summary.toString(), summary.getDuplicates(), is(0L));
+            assertThat(summary.toString(), summary.getInvalid(), is(0L));
+        }
     }
 
     /**
@@ -351,7 +407,7 @@ public class BooksTest extends BaseTest {
      * Expected Result: Response header includes Content-Type: application/json.
      * Notes: Ensures API returns data in the correct content type.
      */
-    @Test @Order(16)
+    @Test
     @Tag("api") @Tag("regression") @Tag("happy")
     @Severity(SeverityLevel.NORMAL)
     @DisplayName("TC39 - Content-Type header validation")
@@ -362,4 +418,157 @@ public class BooksTest extends BaseTest {
         assertThat(res.header("Content-Type"), containsString("application/json"));
     }
 
-}
\ No newline at end of file
+    /**
+     * [P3][Happy] TC40 - Batch add and delete books
+     * Endpoint: POST /Books, DELETE /Books/{id} (pipelined)
+     * Purpose: Seeding and tearing down a dataset through the batch API.
+     * Steps: addBooks(200 new books) -> deleteBooks(their IDs)
+     * Expected Result: Every item of both batches succeeds, and every call is recorded in the latency metrics
+     * Notes: Batch calls pass the same cassette, breaker, limiter and latency hooks as the blocking clients.
+     */
+    @Test
+    @Tag("api") @Tag("regression") @Tag("happy")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC40 - Batch add and delete books (happy path)")
+    @Description("Pipelined batch create/delete must succeed for every item.")
+    void batchAddAndDelete_shouldSucceedForAllItems() {
+        long deletesBefore = recordedCalls(Endpoint.BOOKS_DELETE);
+        List<Book> books = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Book book = TestDataFactory.newBook("Batch Book " + i);
+            books.add(book);
+            TestDataFactory.trackBook(book.getId()); // cleanup ignores 404 if the delete below succeeded
+        }
+        BatchResult added = BooksClient.addBooks(books);
+        assertThat(added.toString(), added.getFailed(), is(0));
+
+        BatchResult deleted = BooksClient.deleteBooks(books.stream().mapToInt(Book::getId).toArray());
+        assertThat(deleted.toString(), deleted.getFailed(), is(0));
+        assertThat(deleted.getTotal(), is(200));
+        if (Cassette.mode() != CassetteMode.REPLAY) { // replayed calls never reach the network
+            assertThat(recordedCalls(Endpoint.BOOKS_DELETE) - deletesBefore, is(greaterThanOrEqualTo(200L)));
+        }
+    }
+
+    private static long recordedCalls(Endpoint endpoint) {
+        return LatencyMetrics.snapshot().stream()
+                .filter(snapshot -> snapshot.getEndpoint() == endpoint)
+                .mapToLong(LatencySnapshot::getCount)
+                .sum();
+    }
+
+    /**
+     * [P3][Generated] TC41 - Create generated boundary-value books
+     * Endpoint: POST /Books
+     * Purpose: Exercise the API with synthetic records (unicode titles, extreme pageCount,
+     *          malformed dates, large excerpts, missing/blank titles) from {@link DataGenerator}.
+     * Expected Result: Valid variants 200/201, missing/blank title 400, everything else no 5xx
+     * Notes: Row count and seed via data.generated.count / data.seed.
+     */
+    @ParameterizedTest(name = "TC41 - {1}")
+    @MethodSource("com.bookstore.data.BookTestDataProvider#provideGeneratedBookCases")
+    @Tag("api") @Tag("regression") @Tag("generated")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC41 - Create generated boundary-value books")
+    @Description("Generated books must get the response their variant expects.")
+    void createGeneratedBook_shouldMatchExpectedOutcome(Book book, DataGenerator.BookVariant variant,
+                                                        DataGenerator.Outcome expected) {
+        Response res = BooksClient.addBook(book);
+        int status = res.statusCode();
+        if (status >= 200 && status < 300) {
+            TestDataFactory.trackBook(book.getId());
+        }
+        switch (expected) {
+            case ACCEPT -> assertThat(variant + " must be accepted", status, anyOf(is(200), is(201)));
+            case REJECT -> assertThat(variant + " must be rejected", status, is(400));
+            default -> assertThat(variant + " must not cause a server error", status, is(lessThan(500)));
+        }
+    }
+
+    /**
+     * [P3][Happy] TC42 - Book lifecycle within a deadline
+     * Endpoints: POST /Books -> GET /Books/{id} -> PUT /Books/{id} -> DELETE /Books/{id}
+     * Purpose: Run the full CRUD flow under one {@link Deadline}; every step only gets what is left of it.
+     * Expected Result: Every step succeeds, the whole flow within 20s
+     * Notes: A slow backend fails this with DeadlineExceededException instead of hanging per step.
+     */
+    @Test
+    @Tag("api") @Tag("regression") @Tag("happy")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC42 - Book lifecycle within a deadline (happy path)")
+    @Description("Create, get, update and delete one book under a shared 20s deadline.")
+    void bookLifecycle_shouldCompleteWithinDeadline() {
+        try (Deadline deadline = Deadline.within(Duration.ofSeconds(20))) {
+            Book book = TestDataFactory.createBook("Deadline Flow");
+            assertThat(BooksClient.getBookByIdAs(book.getId()).getTitle(), is(book.getTitle()));
+
+            book.setDescription("Updated within deadline");
+            BooksClient.updateBook(book.getId(), book).then().statusCode(200);
+
+            assertThat(BooksClient.deleteBook(book.getId()).statusCode(), anyOf(is(200), is(204)));
+            assertThat(deadline.isExpired(), is(false));
+        }
+    }
+
+    /**
+     * [P3][Edge] TC43 - Expired deadline fails fast
+     * Endpoint: GET /Books/{id}
+     * Purpose: Ensure a call made after its deadline expired fails immediately, without a request.
+     * Expected Result: DeadlineExceededException
+     */
+    @Test
+    @Tag("api") @Tag("regression") @Tag("edge")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC43 - Expired deadline fails fast (edge)")
+    @Description("A call issued after its deadline must not reach the server.")
+    void expiredDeadline_shouldFailWithoutRequest() {
+        Deadline deadline = Deadline.within(Duration.ZERO);
+        try {
+            assertThrows(DeadlineExceededException.class, () -> BooksClient.getBookById(1));
+        } finally {
+            deadline.close();
+        }
+    }
+
+    /**
+     * [P3][Edge] TC44 - Timed-out async calls are aborted before their slot is freed
+     * Endpoint: GET /Books/{id} (stub response whose body trickles for 5s)
+     * Purpose: Async in-flight requests must stay bounded against a slow backend: a call that runs out
+     *          of budget has to abort its download, not keep the connection busy after handing its slot on.
+     * Expected Result: Every call fails with TimeoutException, inFlight() never exceeds async.max.in.flight,
+     *                  and the stub sees every slow response abandoned right after the timeouts
+     * Notes: Stub only (?slowBodyMs). Fewer calls than breaker.min.calls, so the timeouts cannot open the breaker.
+     */
+    @Test
+    @Tag("api") @Tag("regression") @Tag("edge")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC44 - Timed-out async calls are aborted (edge)")
+    @Description("Async calls past their budget must release their slot only once the exchange is aborted.")
+    void slowAsyncResponses_shouldBeAbortedOnTimeout() throws Exception {
+        Assumptions.assumeTrue(Config.get().getBoolean("stub.enabled", false), "Needs the stub's slow responses");
+        Assumptions.assumeTrue(Cassette.mode() == CassetteMode.OFF, "Slow responses are not recorded in cassettes");
+        int limit = Config.get().getPositiveInt("async.max.in.flight", 64);
+        AsyncTransport.send("GET", Resource.BOOKS, "/1", null).get(); // connection setup outside the budget
+        List<CompletableFuture<HttpResponse<byte[]>>> calls = new ArrayList<>();
+        Deadline deadline = Deadline.within(Duration.ofMillis(500));
+        try {
+            for (int i = 0; i < 4; i++) {
+                calls.add(AsyncTransport.send("GET", Resource.BOOKS, "/1?slowBodyMs=5000", null));
+                assertThat(AsyncTransport.inFlight(), is(lessThanOrEqualTo(limit)));
+            }
+        } finally {
+            deadline.close();
+        }
+
+        long start = System.nanoTime();
+        for (CompletableFuture<HttpResponse<byte[]>> call : calls) {
+            ExecutionException failure = assertThrows(ExecutionException.class, call::get);
+            assertThat(failure.getCause(), is(instanceOf(TimeoutException.class)));
+            assertThat(AsyncTransport.inFlight(), is(lessThanOrEqualTo(limit)));
+        }
+        while (StubServer.openSlowResponses() > 0 && System.nanoTime() - start < Duration.ofSeconds(2).toNanos()) {
+            Thread.sleep(20);
+        }
+        assertThat("slow responses still being downloaded", StubServer.openSlowResponses(), is(0));
+    }
+}
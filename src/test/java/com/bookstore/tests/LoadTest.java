@@ -0,0 +1,55 @@
+/**
+ * Covers:
+ *  Load/throughput run of the Books and Authors endpoints, reusing the client methods as
+ *  weighted workload steps. Disabled unless load.enabled=true.
+ *  Run with: mvn test -Dgroups=load -Dload.enabled=true
+ */
+
+package com.bookstore.tests;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.load.LoadEngine;
+import com.bookstore.load.LoadOperations;
+import com.bookstore.load.LoadProfile;
+import com.bookstore.load.LoadReport;
+import com.bookstore.logging.HttpLog;
+import com.bookstore.logging.LogLevel;
+import com.bookstore.utils.Config;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Bookstore Load Testing")
+@Feature("Throughput")
+@DisplayName("Bookstore Load Run (opt-in)")
+public class LoadTest extends BaseTest {
+
+    /**
+     * [Load] Weighted scenario from load.mix
+     * Purpose: Drive the configured operation mix through ramp-up, steady state and ramp-down.
+     * Expected Result:
+     *   - Error rate (failed calls + dropped arrivals) stays below load.max.error.rate
+     * Notes:
+     *   - Report is printed and attached to Allure.
+     */
+    @Test
+    @Tag("load")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("Load run - configured scenario")
+    @Description("Runs load.mix with the load.* profile and checks the error rate budget.")
+    void loadRun_shouldStayWithinErrorBudget() {
+        Assumptions.assumeTrue(Config.get().getBoolean("load.enabled", false),
+                "Load mode disabled (set -Dload.enabled=true)");
+
+        LoadReport report = LoadEngine.run(LoadOperations.fromConfig(), LoadProfile.fromConfig());
+        HttpLog.event(LogLevel.INFO, "LoadReport", "\n" + report.format());
+        Allure.addAttachment("Load report", "text/plain", report.format());
+
+        double maxErrorRate = Config.get().getDouble("load.max.error.rate", 0.01);
+        assertThat(report.getTotalCalls(), is(greaterThan(0L)));
+        assertThat(report.getErrorRate(), is(lessThanOrEqualTo(maxErrorRate)));
+        assertThat("Sampled responses violating their contract", report.getContractViolations(), is(0L));
+    }
+}
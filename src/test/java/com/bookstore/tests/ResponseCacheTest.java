@@ -0,0 +1,163 @@
+/**
+ * Covers:
+ *  This suite verifies the client-side GET-by-ID cache (see ResponseCache) against the in-process stub:
+ *    • P3 (Normal): TC01, TC02, TC03, TC04, TC05
+ *  It runs in its own surefire execution (response-cache in pom.xml) with cache.enabled=true, a 500ms TTL
+ *  and 5 entries, since the cache is process-wide and off in every other run.
+ */
+
+package com.bookstore.tests;
+
+import com.bookstore.api.BooksClient;
+import com.bookstore.api.CacheStats;
+import com.bookstore.api.ResponseCache;
+import com.bookstore.model.Book;
+import com.bookstore.stub.StubServer;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+import io.qameta.allure.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+@Epic("Bookstore Client Automation")
+@Feature("Response Cache")
+@DisplayName("Response Cache Test Suite (P3)")
+@Execution(ExecutionMode.SAME_THREAD) // the counters are shared, so tests must not overlap
+public class ResponseCacheTest {
+
+    private static StubServer stub;
+
+    /**
+     * Starts a private stub, so the suite needs no network and its records are never shared.
+     */
+    @BeforeAll
+    public static void startStub() {
+        Assumptions.assumeTrue(ResponseCache.isEnabled(), "Runs in the response-cache execution only");
+        stub = StubServer.start(0, 4, 10, 0);
+        RestAssured.baseURI = stub.baseUrl();
+    }
+
+    @AfterAll
+    public static void stopStub() {
+        if (stub != null) {
+            stub.close();
+        }
+    }
+
+    @BeforeEach
+    public void clearCache() {
+        ResponseCache.clear();
+    }
+
+    /**
+     * [P3][Cache] TC01 - Repeated GET is served from the cache
+     * Endpoint: GET /Books/{id}
+     * Steps: GET /Books/1 twice
+     * Expected Result: One miss, then one hit with the same body
+     */
+    @Test
+    @Tag("cache") @Tag("regression")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC01 - Repeated GET is served from the cache")
+    void repeatedGet_shouldHitCache() {
+        Response first = BooksClient.getBookById(1);
+        Response second = BooksClient.getBookById(1);
+
+        assertThat(second.statusCode(), is(200));
+        assertThat(second.asString(), is(first.asString()));
+        CacheStats stats = ResponseCache.stats();
+        assertThat(stats.toString(), stats.getMisses(), is(1L));
+        assertThat(stats.toString(), stats.getHits(), is(1L));
+    }
+
+    /**
+     * [P3][Cache] TC02 - Expired entry is revalidated with its ETag
+     * Endpoint: GET /Books/{id} (If-None-Match)
+     * Steps: GET /Books/2 -> wait past the TTL -> GET /Books/2
+     * Expected Result: The second GET is answered by a 304 and counted as a revalidation, not a miss
+     */
+    @Test
+    @Tag("cache") @Tag("regression")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC02 - Expired entry is revalidated with its ETag")
+    void expiredEntry_shouldBeRevalidated() throws InterruptedException {
+        Response first = BooksClient.getBookById(2);
+        Thread.sleep(700); // cache.ttl.ms=500 in the response-cache execution
+        Response second = BooksClient.getBookById(2);
+
+        assertThat(second.statusCode(), is(200));
+        assertThat(second.asString(), is(first.asString()));
+        CacheStats stats = ResponseCache.stats();
+        assertThat(stats.toString(), stats.getMisses(), is(1L));
+        assertThat(stats.toString(), stats.getRevalidations(), is(1L));
+        assertThat(stats.toString(), stats.getHits(), is(0L));
+    }
+
+    /**
+     * [P3][Cache] TC03 - PUT invalidates the cached entry
+     * Endpoints: GET /Books/{id} -> PUT /Books/{id} -> GET /Books/{id}
+     * Expected Result: The entry is invalidated and the last GET returns the updated record from the server
+     */
+    @Test
+    @Tag("cache") @Tag("regression")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC03 - PUT invalidates the cached entry")
+    void updateBook_shouldInvalidateEntry() {
+        Book book = BooksClient.getBookByIdAs(3);
+        book.setTitle("Updated through the cache");
+        BooksClient.updateBook(3, book).then().statusCode(200);
+
+        assertThat(BooksClient.getBookByIdAs(3).getTitle(), is("Updated through the cache"));
+        CacheStats stats = ResponseCache.stats();
+        assertThat(stats.toString(), stats.getInvalidations(), is(1L));
+        assertThat(stats.toString(), stats.getMisses(), is(2L));
+        assertThat(stats.toString(), stats.getHits(), is(0L));
+    }
+
+    /**
+     * [P3][Cache] TC04 - DELETE invalidates the cached entry
+     * Endpoints: GET /Books/{id} -> DELETE /Books/{id} -> GET /Books/{id}
+     * Expected Result: The entry is invalidated and the last GET returns 404 instead of the stale record
+     */
+    @Test
+    @Tag("cache") @Tag("regression")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC04 - DELETE invalidates the cached entry")
+    void deleteBook_shouldInvalidateEntry() {
+        BooksClient.getBookById(4).then().statusCode(200);
+        BooksClient.deleteBook(4).then().statusCode(200);
+
+        assertThat(BooksClient.getBookById(4).statusCode(), is(404));
+        CacheStats stats = ResponseCache.stats();
+        assertThat(stats.toString(), stats.getInvalidations(), is(1L));
+        assertThat(stats.toString(), stats.getSize(), is(0));
+    }
+
+    /**
+     * [P3][Cache] TC05 - Least recently used entry is evicted when full
+     * Endpoint: GET /Books/{id}
+     * Steps: GET /Books/5..10 (one more than cache.max.entries=5) -> GET /Books/5
+     * Expected Result: One eviction, and the oldest entry is fetched from the server again
+     */
+    @Test
+    @Tag("cache") @Tag("regression")
+    @Severity(SeverityLevel.NORMAL)
+    @DisplayName("TC05 - Least recently used entry is evicted when full")
+    void fullCache_shouldEvictLeastRecentlyUsed() {
+        for (int id = 5; id <= 10; id++) {
+            BooksClient.getBookById(id).then().statusCode(200);
+        }
+        CacheStats full = ResponseCache.stats();
+        assertThat(full.toString(), full.getEvictions(), is(1L));
+        assertThat(full.toString(), full.getSize(), is(5));
+
+        BooksClient.getBookById(5).then().statusCode(200);
+        CacheStats after = ResponseCache.stats();
+        assertThat(after.toString(), after.getMisses(), is(7L));
+        assertThat(after.toString(), after.getHits(), is(0L));
+    }
+}